@@ -0,0 +1,36 @@
+package com.travel.authentication.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signing keys of the access tokens. Tokens are signed with the active key
+ * and carry its id (kid), so a key can be rotated by adding the new one,
+ * making it active, and removing the old one once its tokens have expired.
+ * Without jwt.keys, jwt.secret is used as the only key, with the id "default".
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private String secret;
+    private long expiration;
+    private String issuer = "travel-authentication";
+    private String activeKeyId = DEFAULT_KEY_ID;
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    public Map<String, String> getSigningKeys() {
+        if (!keys.isEmpty()) {
+            return keys;
+        }
+        return secret != null ? Map.of(DEFAULT_KEY_ID, secret) : Map.of();
+    }
+}
@@ -2,59 +2,98 @@ package com.travel.authentication.controller;
 
 import com.travel.authentication.dto.AuthDTO;
 import com.travel.authentication.dto.AuthResponseDTO;
-import com.travel.authentication.model.User;
+import com.project.user.exception.DuplicateUserException;
+import com.travel.authentication.exception.TooManyAttemptsException;
+import com.project.user.model.User;
 import com.travel.authentication.service.AuthService;
+import com.travel.authentication.service.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
 
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
 public class AuthController {
     private final AuthService authService;
+    private final TokenService tokenService;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, TokenService tokenService) {
         this.authService = authService;
+        this.tokenService = tokenService;
     }
 
 
+    // Both endpoints return futures: the request thread is released while the password is hashed
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthDTO authDTO) {
-        try {
-            User user = authService.login(authDTO);
-            AuthResponseDTO response = new AuthResponseDTO(
-                    user.getId(),
-                    user.getName(),
-                    user.getUsername(),
-                    user.getEmail(),
-                    "Login successful"
-            );
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ErrorResponse("Authentication failed", e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody AuthDTO authDTO, HttpServletRequest request) {
+        return authService.login(authDTO, request.getRemoteAddr())
+                .<ResponseEntity<?>>thenApply(user -> {
+                    AuthResponseDTO response = new AuthResponseDTO(
+                            user.getId(),
+                            user.getName(),
+                            user.getUsername(),
+                            user.getEmail(),
+                            "Login successful"
+                    );
+                    addToken(response, user);
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(e -> errorResponse(e, HttpStatus.UNAUTHORIZED, "Authentication failed"));
     }
 
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody AuthDTO authDTO) {
-        try {
-            User user = authService.register(authDTO);
-            AuthResponseDTO response = new AuthResponseDTO(
-                    user.getId(),
-                    user.getName(),
-                    user.getUsername(),
-                    user.getEmail(),
-                    "Registration successful"
-            );
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ErrorResponse("Registration failed", e.getMessage()));
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody AuthDTO authDTO) {
+        return authService.register(authDTO)
+                .<ResponseEntity<?>>thenApply(user -> {
+                    AuthResponseDTO response = new AuthResponseDTO(
+                            user.getId(),
+                            user.getName(),
+                            user.getUsername(),
+                            user.getEmail(),
+                            "Registration successful"
+                    );
+                    addToken(response, user);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                })
+                .exceptionally(e -> errorResponse(e, HttpStatus.BAD_REQUEST, "Registration failed"));
+    }
+
+    private ResponseEntity<?> errorResponse(Throwable e, HttpStatus status, String error) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TooManyAttemptsException tooManyAttempts) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyAttempts.getRetryAfter().toSeconds()))
+                    .body(new ErrorResponse(error, cause.getMessage()));
         }
+        if (cause instanceof DuplicateUserException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(error, cause.getMessage()));
+        }
+        if (cause instanceof RejectedExecutionException) {
+            // The hashing pool is saturated: ask the client to come back instead of queueing
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(error, "Too many concurrent requests, please retry"));
+        }
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(error, cause.getMessage()));
+    }
+
+    // The token is sent as "Authorization: Bearer <token>" to the other services
+    private void addToken(AuthResponseDTO response, User user) {
+        TokenService.IssuedToken issued = tokenService.issue(user);
+        response.setToken(issued.token());
+        response.setTokenType("Bearer");
+        response.setExpiresAt(issued.expiresAt().toString());
     }
 
     // For error responses
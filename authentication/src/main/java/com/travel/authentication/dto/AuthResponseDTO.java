@@ -15,5 +15,16 @@ public class AuthResponseDTO {
     private String username;
     private String email;
     private String message;
+    private String token;
+    private String tokenType;
+    private String expiresAt;
+
+    public AuthResponseDTO(Long id, String name, String username, String email, String message) {
+        this.id = id;
+        this.name = name;
+        this.username = username;
+        this.email = email;
+        this.message = message;
+    }
 
 }
\ No newline at end of file
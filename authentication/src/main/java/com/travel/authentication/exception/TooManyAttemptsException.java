@@ -0,0 +1,21 @@
+package com.travel.authentication.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a login is refused by the throttling, before the user is
+ * looked up or the password is checked.
+ */
+public class TooManyAttemptsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyAttemptsException(Duration retryAfter) {
+        super("Too many failed login attempts, please retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
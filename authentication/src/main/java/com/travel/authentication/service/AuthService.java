@@ -1,15 +1,32 @@
 package com.travel.authentication.service;
 
 import com.travel.authentication.dto.AuthDTO;
-import com.travel.authentication.model.User;
+import com.project.user.model.User;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthService {
     /**
-     * Method used for login
+     * Method used for login. Throttled usernames and addresses are refused
+     * before the user is looked up; otherwise the password is checked on the
+     * hashing pool, and a hash made with an outdated cost is replaced on success.
+     *
+     * @param auth the auth object
+     * @param clientIp address of the client, for the throttling
+     * @return future of the owner for a successful login; fails with
+     * NoSuchElementException for wrong credentials, with
+     * TooManyAttemptsException when throttled and with
+     * RejectedExecutionException when the hashing pool is full
+     */
+    CompletableFuture<User> login(AuthDTO auth, String clientIp);
+
+    /**
+     * Method used for registration, hashing the password on the hashing pool
+     * and inserting the user in one statement
      *
      * @param auth the auth object
-     * @return the owner for a succesfull login, null otherwise
+     * @return future of the created user; fails with DuplicateUserException
+     * for a taken username or email
      */
-    User login(AuthDTO auth);
-    User register(AuthDTO auth);
+    CompletableFuture<User> register(AuthDTO auth);
 }
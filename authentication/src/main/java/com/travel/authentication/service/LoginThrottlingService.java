@@ -0,0 +1,30 @@
+package com.travel.authentication.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Counts login attempts per username and per client IP in sliding windows.
+ * A username over its limit is being brute forced; an IP over its limit is
+ * trying many usernames (credential stuffing). Either one refuses the login.
+ * An attempt is counted before the password is checked, so a burst of
+ * concurrent guesses cannot all get past the limit; a successful login
+ * gives its attempt back.
+ */
+public interface LoginThrottlingService {
+    /**
+     * Count a login attempt if both the username and the IP are under their limits
+     * @param username Username as sent by the client
+     * @param clientIp Address of the client
+     * @return Time to wait if the login is refused (and not counted), empty if it may go ahead
+     */
+    Optional<Duration> tryAcquire(String username, String clientIp);
+
+    /**
+     * Forget the attempts of a username and give back the attempt of the IP
+     * after a successful login
+     * @param username Username as sent by the client
+     * @param clientIp Address of the client
+     */
+    void recordSuccess(String username, String clientIp);
+}
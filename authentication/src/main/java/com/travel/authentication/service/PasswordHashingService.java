@@ -0,0 +1,31 @@
+package com.travel.authentication.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Password hashing on a dedicated, bounded pool, off the request threads.
+ * When the pool and its queue are full, the returned future fails at once
+ * with a RejectedExecutionException instead of queueing without limit.
+ */
+public interface PasswordHashingService {
+    /**
+     * Hash a new password with the configured cost
+     * @param rawPassword Password as typed by the user
+     * @return Future of the hash
+     */
+    CompletableFuture<String> encode(String rawPassword);
+
+    /**
+     * Check a password against a stored hash
+     * @param rawPassword Password as typed by the user
+     * @param hash Stored hash
+     * @return Future of the result
+     */
+    CompletableFuture<Boolean> matches(String rawPassword, String hash);
+
+    /**
+     * @param hash Stored hash
+     * @return True if the hash was made with a cost other than the configured one
+     */
+    boolean needsRehash(String hash);
+}
@@ -0,0 +1,17 @@
+package com.travel.authentication.service;
+
+import com.project.user.model.User;
+
+import java.time.Instant;
+
+public interface TokenService {
+    /**
+     * Issue a signed access token for a user who has just logged in or registered
+     * @param user Authenticated user
+     * @return The token and its expiry time
+     */
+    IssuedToken issue(User user);
+
+    record IssuedToken(String token, Instant expiresAt) {
+    }
+}
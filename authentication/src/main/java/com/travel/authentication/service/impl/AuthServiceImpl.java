@@ -1,65 +1,90 @@
 package com.travel.authentication.service.impl;
 
+import com.project.user.model.User;
+import com.project.user.service.IdentityService;
 import com.travel.authentication.dto.AuthDTO;
-import com.travel.authentication.model.User;
-import com.travel.authentication.repository.UserRepository;
+import com.travel.authentication.exception.TooManyAttemptsException;
 import com.travel.authentication.service.AuthService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.travel.authentication.service.LoginThrottlingService;
+import com.travel.authentication.service.PasswordHashingService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 public class AuthServiceImpl implements AuthService {
 
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final IdentityService identityService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottlingService loginThrottlingService;
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) //PasswordEncoder passwordEncoder)
+    public AuthServiceImpl(IdentityService identityService, PasswordHashingService passwordHashingService,
+                           LoginThrottlingService loginThrottlingService)
     {
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.identityService = identityService;
+        this.passwordHashingService = passwordHashingService;
+        this.loginThrottlingService = loginThrottlingService;
     }
 
     @Override
-    public User login(AuthDTO auth) {
-        Optional<User> userOpt = userRepository.findByUsername(auth.getUsername());
+    public CompletableFuture<User> login(AuthDTO auth, String clientIp) {
+        // Counted, or refused, before any database read or hashing
+        Optional<Duration> retryAfter = loginThrottlingService.tryAcquire(auth.getUsername(), clientIp);
+        if (retryAfter.isPresent()) {
+            log.info("Login throttled for user {} from {}", auth.getUsername(), clientIp);
+            return CompletableFuture.failedFuture(new TooManyAttemptsException(retryAfter.get()));
+        }
+
+        Optional<User> userOpt = identityService.findByUsername(auth.getUsername());
 
         if (userOpt.isEmpty()) {
-            throw new NoSuchElementException("User or password incorrect");
+            return CompletableFuture.failedFuture(new NoSuchElementException("User or password incorrect"));
         }
 
         User user = userOpt.get();
 
-        if (!passwordEncoder.matches(auth.getPassword(), user.getPassword())) {
-            throw new NoSuchElementException("User or password incorrect");
-        }
-
-        return user;
+        return passwordHashingService.matches(auth.getPassword(), user.getPassword())
+                .thenCompose(matches -> {
+                    if (!matches) {
+                        throw new NoSuchElementException("User or password incorrect");
+                    }
+                    loginThrottlingService.recordSuccess(auth.getUsername(), clientIp);
+                    if (!passwordHashingService.needsRehash(user.getPassword())) {
+                        return CompletableFuture.completedFuture(user);
+                    }
+                    return rehash(user, auth.getPassword());
+                });
     }
 
     @Override
-    public User register(AuthDTO auth) {
-        if (userRepository.existsByUsername(auth.getUsername())) {
-            throw new IllegalArgumentException("This username already exists");
-        }
-
-        if (userRepository.existsByEmail(auth.getEmail())) {
-            throw new IllegalArgumentException("This email is already registered");
-        }
-
-        String hashedPassword = passwordEncoder.encode(auth.getPassword());
-
-        User user = User.builder()
-                .name(auth.getName())
-                .username(auth.getUsername())
-                .email(auth.getEmail())
-                .password(hashedPassword)
-                .createdAt(LocalDateTime.now().toString())
-                .build();
+    public CompletableFuture<User> register(AuthDTO auth) {
+        // Hashed here on the pool; the identity service inserts without looking the names up first
+        return passwordHashingService.encode(auth.getPassword())
+                .thenApply(hashedPassword -> identityService.create(User.builder()
+                        .name(auth.getName())
+                        .username(auth.getUsername())
+                        .email(auth.getEmail())
+                        .password(hashedPassword)
+                        .createdAt(LocalDateTime.now().toString())
+                        .build()));
+    }
 
-        return userRepository.save(user);
+    // The password was just verified, so the login succeeds even if the new hash cannot be stored
+    private CompletableFuture<User> rehash(User user, String rawPassword) {
+        return passwordHashingService.encode(rawPassword)
+                .thenApply(hashedPassword -> {
+                    user.setPassword(hashedPassword);
+                    return identityService.update(user);
+                })
+                .exceptionally(e -> {
+                    log.warn("Could not rehash the password of user {}", user.getId(), e);
+                    return user;
+                });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package com.travel.authentication.service.impl;
+
+import com.travel.authentication.service.LoginThrottlingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory sliding-window counters, one map for usernames and one for IPs.
+ * Each counter is a single AtomicLong updated with compare-and-set, which
+ * checks the limit and counts the attempt in one step, so concurrent logins
+ * never lock and never overshoot the limit. The estimate weights the previous window by
+ * how much of it still overlaps the sliding window, which needs two counts
+ * per key instead of a timestamp per attempt.
+ * <p>
+ * Each map holds at most max-tracked keys. Keys whose windows have passed
+ * are swept when a map fills up; if it is still full, new keys are not
+ * tracked until the sweep frees room, so memory stays bounded under a flood
+ * of distinct usernames or addresses.
+ */
+@Slf4j
+@Service
+public class LoginThrottlingServiceImpl implements LoginThrottlingService {
+
+    private final Limit usernameLimit;
+    private final Limit ipLimit;
+
+    public LoginThrottlingServiceImpl(MeterRegistry meterRegistry,
+                                      @Value("${login.throttling.username.max-failures:5}") int usernameMaxFailures,
+                                      @Value("${login.throttling.username.window-seconds:900}") long usernameWindowSeconds,
+                                      @Value("${login.throttling.ip.max-failures:20}") int ipMaxFailures,
+                                      @Value("${login.throttling.ip.window-seconds:60}") long ipWindowSeconds,
+                                      @Value("${login.throttling.max-tracked:100000}") int maxTracked) {
+        this.usernameLimit = new Limit("username", usernameMaxFailures, usernameWindowSeconds, maxTracked, meterRegistry);
+        this.ipLimit = new Limit("ip", ipMaxFailures, ipWindowSeconds, maxTracked, meterRegistry);
+    }
+
+    @Override
+    public Optional<Duration> tryAcquire(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        String key = normalize(username);
+        long wait = usernameLimit.tryAcquire(key, now);
+        if (wait <= 0) {
+            wait = ipLimit.tryAcquire(clientIp, now);
+            if (wait <= 0) {
+                return Optional.empty();
+            }
+            // Refused by the IP, so the username's attempt did not happen either
+            usernameLimit.release(key, now);
+        }
+        // Retry-After is in whole seconds
+        return Optional.of(Duration.ofSeconds(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(wait + 999))));
+    }
+
+    @Override
+    public void recordSuccess(String username, String clientIp) {
+        usernameLimit.reset(normalize(username));
+        ipLimit.release(clientIp, System.currentTimeMillis());
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Inner class with the counters of one key type and their limit
+    private static class Limit {
+        private final String name;
+        private final int maxFailures;
+        private final long windowMillis;
+        private final int maxTracked;
+        private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+        private final Counter throttled;
+
+        Limit(String name, int maxFailures, long windowSeconds, int maxTracked, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.maxFailures = maxFailures;
+            this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+            this.maxTracked = maxTracked;
+            this.throttled = meterRegistry.counter("auth.login.throttled", "key", name);
+            meterRegistry.gaugeMapSize("auth.login.throttling.tracked", Tags.of("key", name), windows);
+        }
+
+        // Counts the attempt and returns 0, or returns the time to wait without counting it
+        long tryAcquire(String key, long now) {
+            if (key == null) {
+                return 0;
+            }
+            SlidingWindow window = windows.get(key);
+            if (window == null) {
+                if (windows.size() >= maxTracked && !sweep(now)) {
+                    return 0;
+                }
+                window = windows.computeIfAbsent(key, k -> new SlidingWindow());
+            }
+            long wait = window.tryAcquire(now, windowMillis, maxFailures);
+            if (wait > 0) {
+                throttled.increment();
+            }
+            return wait;
+        }
+
+        void release(String key, long now) {
+            if (key == null) {
+                return;
+            }
+            SlidingWindow window = windows.get(key);
+            if (window != null) {
+                window.release(now, windowMillis);
+            }
+        }
+
+        void reset(String key) {
+            windows.remove(key);
+        }
+
+        // Drops keys without attempts in the last two windows; true if there is room afterwards
+        private boolean sweep(long now) {
+            if (sweeping.compareAndSet(false, true)) {
+                try {
+                    int before = windows.size();
+                    windows.values().removeIf(window -> window.isIdle(now, windowMillis));
+                    if (windows.size() >= maxTracked) {
+                        log.warn("Login throttling tracks {} {} keys, new ones are ignored until older ones expire",
+                                windows.size(), name);
+                    } else {
+                        log.debug("Login throttling swept {} idle {} keys", before - windows.size(), name);
+                    }
+                } finally {
+                    sweeping.set(false);
+                }
+            }
+            return windows.size() < maxTracked;
+        }
+    }
+
+    /**
+     * Sliding-window counter packed in one long: the index of the current
+     * window in the high 32 bits, then the attempts of the previous window
+     * and of the current one, 16 bits each (saturating).
+     */
+    static class SlidingWindow {
+        private static final long COUNT_MASK = 0xFFFF;
+
+        private final AtomicLong state = new AtomicLong();
+
+        /**
+         * Count an attempt unless the estimate is already at the limit
+         * @return 0 if the attempt was counted, else milliseconds until it would be
+         */
+        long tryAcquire(long now, long windowMillis, int maxFailures) {
+            long index = now / windowMillis;
+            while (true) {
+                long current = state.get();
+                long rolled = roll(current, index);
+                long wait = waitMillis(rolled, now, index, windowMillis, maxFailures);
+                if (wait > 0) {
+                    return wait;
+                }
+                long count = rolled & COUNT_MASK;
+                if (state.compareAndSet(current, count == COUNT_MASK ? rolled : rolled + 1)) {
+                    return 0;
+                }
+            }
+        }
+
+        // Takes back one attempt; after a roll-over it is one of the previous window's
+        void release(long now, long windowMillis) {
+            long index = now / windowMillis;
+            state.updateAndGet(current -> {
+                long rolled = roll(current, index);
+                if ((rolled & COUNT_MASK) > 0) {
+                    return rolled - 1;
+                }
+                return ((rolled >>> 16) & COUNT_MASK) > 0 ? rolled - (1L << 16) : rolled;
+            });
+        }
+
+        /**
+         * @return Milliseconds until the estimated failures drop below the limit, 0 if already below
+         */
+        long waitMillis(long now, long windowMillis, int maxFailures) {
+            long index = now / windowMillis;
+            return waitMillis(roll(state.get(), index), now, index, windowMillis, maxFailures);
+        }
+
+        private static long waitMillis(long rolled, long now, long index, long windowMillis, int maxFailures) {
+            long previous = (rolled >>> 16) & COUNT_MASK;
+            long current = rolled & COUNT_MASK;
+            long elapsed = now - index * windowMillis;
+
+            // The previous window counts for the part of it still inside the sliding window
+            double estimate = previous * (double) (windowMillis - elapsed) / windowMillis + current;
+            if (estimate < maxFailures) {
+                return 0;
+            }
+            if (current >= maxFailures) {
+                // Only the next window, in which these failures start to decay, can help
+                return windowMillis - elapsed;
+            }
+            // Solve previous * (windowMillis - t) / windowMillis + current < maxFailures for t
+            long until = (long) Math.ceil(windowMillis * (1 - (double) (maxFailures - current) / previous));
+            return Math.max(1, until - elapsed + 1);
+        }
+
+        boolean isIdle(long now, long windowMillis) {
+            return roll(state.get(), now / windowMillis) == (now / windowMillis) << 32;
+        }
+
+        private static long roll(long state, long index) {
+            long stateIndex = state >>> 32;
+            if (stateIndex == index) {
+                return state;
+            }
+            if (stateIndex == index - 1) {
+                // The current window becomes the previous one
+                return (index << 32) | ((state & COUNT_MASK) << 16);
+            }
+            return index << 32;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.travel.authentication.service.impl;
+
+import com.travel.authentication.service.PasswordHashingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a fixed number of threads with a bounded queue, so a burst
+ * of logins uses at most that many cores and the rest of the API keeps
+ * responding. Queue depth, active threads and rejections are exported as
+ * password.hashing.* metrics.
+ */
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final int strength;
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${password.hashing.bcrypt-strength:12}") int strength,
+                                      @Value("${password.hashing.threads:0}") int threads,
+                                      @Value("${password.hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+
+        // 0 means one thread per core
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+        this.hashTimer = meterRegistry.timer("password.hashing.duration");
+        this.rejections = meterRegistry.counter("password.hashing.rejected");
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matches(String rawPassword, String hash) {
+        return submit(() -> passwordEncoder.matches(rawPassword, hash));
+    }
+
+    @Override
+    public boolean needsRehash(String hash) {
+        if (hash == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(hash);
+        // Hashes that are not BCrypt at all are replaced as well
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(() -> hashTimer.record(work), monitoredExecutor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
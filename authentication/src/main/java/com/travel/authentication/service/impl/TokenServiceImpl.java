@@ -0,0 +1,52 @@
+package com.travel.authentication.service.impl;
+
+import com.travel.authentication.config.JwtProperties;
+import com.project.user.model.User;
+import com.travel.authentication.service.TokenService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Issues HMAC-SHA256 signed JWTs. Other services verify them locally with
+ * the same keys, without calling this service.
+ */
+@Service
+public class TokenServiceImpl implements TokenService {
+
+    private final JwtProperties properties;
+    private final SecretKey signingKey;
+
+    public TokenServiceImpl(JwtProperties properties) {
+        this.properties = properties;
+        String secret = properties.getSigningKeys().get(properties.getActiveKeyId());
+        if (secret == null) {
+            throw new IllegalStateException("No JWT key configured with the active id: " + properties.getActiveKeyId());
+        }
+        // Rejects secrets shorter than 256 bits at startup
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public IssuedToken issue(User user) {
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plusMillis(properties.getExpiration());
+
+        String token = Jwts.builder()
+                .header().keyId(properties.getActiveKeyId()).and()
+                .issuer(properties.getIssuer())
+                .subject(String.valueOf(user.getId()))
+                .claim("username", user.getUsername())
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
+                .signWith(signingKey, Jwts.SIG.HS256)
+                .compact();
+
+        return new IssuedToken(token, expiresAt);
+    }
+}
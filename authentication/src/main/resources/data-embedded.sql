@@ -0,0 +1,6 @@
+-- Demo user of the embedded profile, password "password".
+-- The id is taken from user_seq so later registrations never collide with it.
+INSERT INTO user (id, name, username, email, password, created_at, version)
+SELECT NEXT VALUE FOR user_seq, 'Demo User', 'demo', 'demo@traveljournal.test',
+       '$2a$12$qhFTxDhwdy.r9AJqykUHre.2PC3NJKsBiueWBPPjQ27.X1JedDKnK', '2025-01-01T00:00', 0
+WHERE NOT EXISTS (SELECT 1 FROM user WHERE username = 'demo');
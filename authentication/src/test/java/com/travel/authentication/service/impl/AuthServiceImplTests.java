@@ -0,0 +1,84 @@
+package com.travel.authentication.service.impl;
+
+import com.project.user.model.User;
+import com.project.user.service.IdentityService;
+import com.travel.authentication.dto.AuthDTO;
+import com.travel.authentication.exception.TooManyAttemptsException;
+import com.travel.authentication.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthServiceImplTests {
+
+    private static final int MAX_FAILURES = 5;
+    private static final int GUESSES = 50;
+
+    @Test
+    void concurrentGuessesBeyondTheLimitNeverReachThePasswordCheck() throws Exception {
+        IdentityService identityService = mock(IdentityService.class);
+        when(identityService.findByUsername("alice"))
+                .thenReturn(Optional.of(User.builder().id(1L).username("alice").password("hash").build()));
+
+        // The password checks stay pending until every guess went through login, as under a real burst
+        CompletableFuture<Boolean> pendingCheck = new CompletableFuture<>();
+        AtomicInteger checks = new AtomicInteger();
+        PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+        when(passwordHashingService.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            checks.incrementAndGet();
+            return pendingCheck;
+        });
+
+        AuthServiceImpl authService = new AuthServiceImpl(identityService, passwordHashingService,
+                new LoginThrottlingServiceImpl(new SimpleMeterRegistry(), MAX_FAILURES, 900, 20, 60, 100));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<User>>> logins = new ArrayList<>();
+        try {
+            for (int i = 0; i < GUESSES; i++) {
+                AuthDTO auth = new AuthDTO();
+                auth.setUsername("alice");
+                auth.setPassword("guess" + i);
+                logins.add(executor.submit(() -> {
+                    start.await();
+                    return authService.login(auth, "10.0.0.1");
+                }));
+            }
+            start.countDown();
+
+            int throttled = 0;
+            for (Future<CompletableFuture<User>> login : logins) {
+                CompletableFuture<User> result = login.get();
+                if (result.isCompletedExceptionally()) {
+                    assertThat(result).failsWithin(Duration.ZERO)
+                            .withThrowableOfType(ExecutionException.class)
+                            .withCauseInstanceOf(TooManyAttemptsException.class);
+                    throttled++;
+                }
+            }
+            pendingCheck.complete(false);
+
+            assertThat(checks.get()).isEqualTo(MAX_FAILURES);
+            assertThat(throttled).isEqualTo(GUESSES - MAX_FAILURES);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
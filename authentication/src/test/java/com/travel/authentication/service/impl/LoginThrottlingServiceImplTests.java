@@ -0,0 +1,170 @@
+package com.travel.authentication.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginThrottlingServiceImplTests {
+
+    private static final long WINDOW = 1000;
+    private static final int MAX_FAILURES = 5;
+
+    @Test
+    void currentWindowAtLimitWaitsForNextWindow() {
+        LoginThrottlingServiceImpl.SlidingWindow window = failures(MAX_FAILURES, 100);
+
+        assertThat(window.waitMillis(200, WINDOW, MAX_FAILURES)).isEqualTo(800);
+        assertThat(window.waitMillis(999, WINDOW, MAX_FAILURES)).isEqualTo(1);
+    }
+
+    @Test
+    void previousWindowDecaysAfterRollOver() {
+        LoginThrottlingServiceImpl.SlidingWindow window = failures(MAX_FAILURES, 100);
+
+        // At the start of the next window all five still overlap the sliding window
+        assertThat(window.waitMillis(1000, WINDOW, MAX_FAILURES)).isEqualTo(1);
+        assertThat(window.waitMillis(1001, WINDOW, MAX_FAILURES)).isZero();
+    }
+
+    @Test
+    void waitSolvesForWhenEstimateDropsBelowLimit() {
+        LoginThrottlingServiceImpl.SlidingWindow window = failures(MAX_FAILURES, 100);
+        for (int i = 0; i < 4; i++) {
+            window.tryAcquire(1500, WINDOW, Integer.MAX_VALUE);
+        }
+
+        // 5 * (1000 - t) / 1000 + 4 < 5 from t = 801 on
+        long wait = window.waitMillis(1500, WINDOW, MAX_FAILURES);
+        assertThat(wait).isEqualTo(301);
+        assertThat(window.waitMillis(1500 + wait - 1, WINDOW, MAX_FAILURES)).isPositive();
+        assertThat(window.waitMillis(1500 + wait, WINDOW, MAX_FAILURES)).isZero();
+    }
+
+    @Test
+    void windowsOlderThanPreviousAreForgotten() {
+        LoginThrottlingServiceImpl.SlidingWindow window = failures(MAX_FAILURES, 100);
+
+        assertThat(window.isIdle(1500, WINDOW)).isFalse();
+        assertThat(window.isIdle(2000, WINDOW)).isTrue();
+        assertThat(window.waitMillis(2000, WINDOW, MAX_FAILURES)).isZero();
+    }
+
+    @Test
+    void countSaturatesWithoutOverflowingIntoPreviousWindow() {
+        LoginThrottlingServiceImpl.SlidingWindow window = failures(70_000, 100);
+
+        assertThat(window.waitMillis(100, WINDOW, 0xFFFF)).isEqualTo(900);
+        // Rolled over, the saturated count is the previous window's and decays by half at mid-window
+        assertThat(window.waitMillis(1500, WINDOW, 0xFFFF / 2 + 1)).isZero();
+        assertThat(window.waitMillis(1499, WINDOW, 0xFFFF / 2 + 1)).isPositive();
+    }
+
+    @Test
+    void tryAcquireCountsUpToTheLimitOnly() {
+        LoginThrottlingServiceImpl.SlidingWindow window = new LoginThrottlingServiceImpl.SlidingWindow();
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            assertThat(window.tryAcquire(100, WINDOW, MAX_FAILURES)).isZero();
+        }
+
+        assertThat(window.tryAcquire(100, WINDOW, MAX_FAILURES)).isEqualTo(900);
+        // The refused attempt was not counted
+        window.release(100, WINDOW);
+        assertThat(window.tryAcquire(100, WINDOW, MAX_FAILURES)).isZero();
+    }
+
+    @Test
+    void releaseAfterRollOverTakesFromThePreviousWindow() {
+        LoginThrottlingServiceImpl.SlidingWindow window = failures(MAX_FAILURES, 100);
+
+        window.release(1000, WINDOW);
+        assertThat(window.waitMillis(1000, WINDOW, MAX_FAILURES)).isZero();
+    }
+
+    @Test
+    void retryAfterIsInWholeSecondsWithinTheWindow() {
+        LoginThrottlingServiceImpl service = service(100);
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            service.tryAcquire("Alice", "10.0.0." + i);
+        }
+
+        Optional<Duration> retryAfter = service.tryAcquire(" alice ", "10.0.0.99");
+        assertThat(retryAfter).isPresent();
+        assertThat(retryAfter.get().getNano()).isZero();
+        assertThat(retryAfter.get().toSeconds()).isBetween(1L, 900L);
+    }
+
+    @Test
+    void ipLimitAppliesAcrossUsernames() {
+        LoginThrottlingServiceImpl service = service(100);
+        for (int i = 0; i < 20; i++) {
+            service.tryAcquire("user" + i, "10.0.0.1");
+        }
+
+        assertThat(service.tryAcquire("someone-else", "10.0.0.1")).hasValueSatisfying(
+                retryAfter -> assertThat(retryAfter.toSeconds()).isBetween(1L, 60L));
+        assertThat(service.tryAcquire("someone-else", "10.0.0.2")).isEmpty();
+    }
+
+    @Test
+    void successClearsUsernameFailures() {
+        LoginThrottlingServiceImpl service = service(100);
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            service.tryAcquire("alice", "10.0.0." + i);
+        }
+
+        service.recordSuccess("ALICE", "10.0.0.4");
+        assertThat(service.tryAcquire("alice", "10.0.0.99")).isEmpty();
+    }
+
+    @Test
+    void usernameRefusedByIpLimitIsNotCounted() {
+        LoginThrottlingServiceImpl service = service(100);
+        for (int i = 0; i < 20; i++) {
+            service.tryAcquire("user" + i, "10.0.0.1");
+        }
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            assertThat(service.tryAcquire("alice", "10.0.0.1")).isPresent();
+        }
+
+        assertThat(service.tryAcquire("alice", "10.0.0.2")).isEmpty();
+    }
+
+    @Test
+    void successGivesBackTheIpAttempt() {
+        LoginThrottlingServiceImpl service = service(100);
+        for (int i = 0; i < 20; i++) {
+            service.tryAcquire("user" + i, "10.0.0.1");
+            service.recordSuccess("user" + i, "10.0.0.1");
+        }
+
+        assertThat(service.tryAcquire("someone-else", "10.0.0.1")).isEmpty();
+    }
+
+    @Test
+    void keysBeyondMaxTrackedAreNotThrottled() {
+        LoginThrottlingServiceImpl service = service(1);
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            service.tryAcquire("alice", "10.0.0.1");
+            service.tryAcquire("bob", "10.0.0.1");
+        }
+
+        assertThat(service.tryAcquire("alice", null)).isPresent();
+        assertThat(service.tryAcquire("bob", null)).isEmpty();
+    }
+
+    private static LoginThrottlingServiceImpl.SlidingWindow failures(int count, long now) {
+        LoginThrottlingServiceImpl.SlidingWindow window = new LoginThrottlingServiceImpl.SlidingWindow();
+        for (int i = 0; i < count; i++) {
+            window.tryAcquire(now, WINDOW, Integer.MAX_VALUE);
+        }
+        return window;
+    }
+
+    private static LoginThrottlingServiceImpl service(int maxTracked) {
+        return new LoginThrottlingServiceImpl(new SimpleMeterRegistry(), MAX_FAILURES, 900, 20, 60, maxTracked);
+    }
+}
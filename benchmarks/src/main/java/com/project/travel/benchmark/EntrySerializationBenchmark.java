@@ -0,0 +1,43 @@
+package com.project.travel.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.travel.model.Entry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of entry lists with their media, as returned by the
+ * entry endpoints, using the same ObjectMapper defaults as the application
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntrySerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int entries;
+
+    @Param({"0", "3"})
+    private int mediaPerEntry;
+
+    private ObjectMapper objectMapper;
+    private List<Entry> entryList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        entryList = new Fixtures(1, entries, mediaPerEntry).getEntries(1L);
+    }
+
+    @Benchmark
+    public byte[] serializeEntries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entryList);
+    }
+}
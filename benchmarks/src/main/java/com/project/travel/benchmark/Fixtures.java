@@ -0,0 +1,178 @@
+package com.project.travel.benchmark;
+
+import com.project.travel.constants.MediaType;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Journal;
+import com.project.travel.model.Media;
+import com.project.travel.service.EntryService;
+import com.project.travel.service.JournalService;
+import com.project.travel.service.UserService;
+import com.project.user.model.User;
+import com.project.user.service.IdentityService;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * In-memory data set for the benchmarks: one user owning a number of
+ * journals, each with a number of entries and media. Content is generated
+ * from a fixed seed so every run measures the same documents.
+ */
+public class Fixtures {
+
+    private static final String[] LOCATIONS = {"Cluj-Napoca", "Brasov", "Sibiu", "Timisoara", "Iasi",
+            "Constanta", "Oradea", "Suceava", "Sighisoara", "Bucuresti"};
+
+    private final User user;
+    private final Map<Long, Journal> journals = new LinkedHashMap<>();
+    private final Map<Long, List<Entry>> entriesByJournal = new HashMap<>();
+
+    public Fixtures(int journalCount, int entriesPerJournal, int mediaPerEntry) {
+        Random random = new Random(42);
+        user = User.builder()
+                .id(1L)
+                .name("Benchmark User")
+                .username("benchmark")
+                .email("benchmark@traveljournal.com")
+                .createdAt("2024-01-01T10:00:00")
+                .build();
+
+        long entryId = 1;
+        long mediaId = 1;
+        for (long journalId = 1; journalId <= journalCount; journalId++) {
+            Journal journal = journal(journalId, random);
+            journals.put(journalId, journal);
+
+            List<Entry> entries = new ArrayList<>(entriesPerJournal);
+            for (int i = 0; i < entriesPerJournal; i++) {
+                Entry entry = entry(entryId++, journalId, random);
+                for (int j = 0; j < mediaPerEntry; j++) {
+                    entry.getMediaAttachments().add(media(mediaId++));
+                }
+                entries.add(entry);
+            }
+            entriesByJournal.put(journalId, entries);
+        }
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public List<Journal> getJournals() {
+        return new ArrayList<>(journals.values());
+    }
+
+    public List<Entry> getEntries(Long journalId) {
+        return entriesByJournal.getOrDefault(journalId, Collections.emptyList());
+    }
+
+    public UserService userService() {
+        return service(UserService.class, (method, args) -> switch (method) {
+            case "getUserById" -> Optional.ofNullable(user.getId().equals(args[0]) ? user : null);
+            default -> null;
+        });
+    }
+
+    public IdentityService identityService() {
+        return service(IdentityService.class, (method, args) -> switch (method) {
+            case "findById" -> Optional.ofNullable(user.getId().equals(args[0]) ? user : null);
+            default -> null;
+        });
+    }
+
+    public JournalService journalService() {
+        return service(JournalService.class, (method, args) -> switch (method) {
+            case "getJournalById" -> Optional.ofNullable(journals.get((Long) args[0]));
+            case "getJournalsByUserId" -> getJournals();
+            default -> null;
+        });
+    }
+
+    public EntryService entryService() {
+        return service(EntryService.class, (method, args) -> switch (method) {
+            case "getEntriesByJournalId" -> getEntries((Long) args[0]);
+            default -> null;
+        });
+    }
+
+    /**
+     * Validator context accepting the custom violation messages the
+     * validators build, without a Bean Validation provider
+     */
+    public static ConstraintValidatorContext validatorContext() {
+        ConstraintValidatorContext[] context = new ConstraintValidatorContext[1];
+        ConstraintValidatorContext.ConstraintViolationBuilder builder = service(
+                ConstraintValidatorContext.ConstraintViolationBuilder.class,
+                (method, args) -> "addConstraintViolation".equals(method) ? context[0] : null);
+        context[0] = service(ConstraintValidatorContext.class,
+                (method, args) -> "buildConstraintViolationWithTemplate".equals(method) ? builder : null);
+        return context[0];
+    }
+
+    private Journal journal(long id, Random random) {
+        return Journal.builder()
+                .id(id)
+                .userId(user.getId())
+                .title("Journey " + id + " through " + LOCATIONS[random.nextInt(LOCATIONS.length)])
+                .description(text(random, 30))
+                .coverImageURL("/uploads/journal-covers/cover-" + id + ".jpg")
+                .createdAt(String.format("2024-%02d-%02dT09:30:00", 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                .build();
+    }
+
+    private Entry entry(long id, long journalId, Random random) {
+        String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+        return Entry.builder()
+                .id(id)
+                .journalId(journalId)
+                .title("Day " + id + " in " + location)
+                .content(text(random, 120))
+                .locationName(location)
+                .latitude(String.valueOf(44 + random.nextDouble() * 4))
+                .longitude(String.valueOf(21 + random.nextDouble() * 8))
+                .createdAt(String.format("2024-%02d-%02dT18:00:00", 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                .mediaAttachments(new ArrayList<>())
+                .build();
+    }
+
+    private Media media(long id) {
+        return Media.builder()
+                .id(id)
+                .url("/uploads/media/photo-" + id + ".jpg")
+                .type(id % 5 == 0 ? MediaType.VIDEO : MediaType.PHOTO)
+                .caption("Photo " + id)
+                .createdAt("2024-06-01T12:00:00")
+                .build();
+    }
+
+    private static String text(Random random, int words) {
+        String[] vocabulary = {"mountain", "river", "old", "town", "coffee", "museum", "sunset", "walk",
+                "market", "castle", "train", "we", "visited", "the", "and", "a", "beautiful", "long"};
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    // Implements only the methods the benchmarked code calls, the rest return null
+    private static <T> T service(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + " fixture";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.handle(method.getName(), args);
+                }));
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.travel.benchmark;
+
+import com.project.travel.validation.ValidJournalTitleValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journal title validation, for accepted titles and for each rejection path
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalTitleValidatorBenchmark {
+
+    @Param({"Summer in Transylvania", "Călătorie prin Țara Românească și Ardeal, vara anului 2024", "ab", "2024 - 07 / 15"})
+    private String title;
+
+    private ValidJournalTitleValidator validator;
+    private ConstraintValidatorContext context;
+
+    @Setup
+    public void setUp() {
+        validator = new ValidJournalTitleValidator();
+        context = Fixtures.validatorContext();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(title, context);
+    }
+}
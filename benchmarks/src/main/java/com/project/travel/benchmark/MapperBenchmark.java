@@ -0,0 +1,69 @@
+package com.project.travel.benchmark;
+
+import com.project.travel.dto.EntryAdditionDTO;
+import com.project.travel.dto.JournalAdditionDTO;
+import com.project.travel.dto.UserCreationDTO;
+import com.project.travel.mapper.EntryMapper;
+import com.project.travel.mapper.JournalMapper;
+import com.project.travel.mapper.UserMapper;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Journal;
+import com.project.user.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to entity conversions done on every create request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private EntryAdditionDTO entryDTO;
+    private JournalAdditionDTO journalDTO;
+    private UserCreationDTO userDTO;
+
+    @Setup
+    public void setUp() {
+        entryDTO = EntryAdditionDTO.builder()
+                .title("Day 3 in Sibiu")
+                .content("We walked through the old town and visited the Brukenthal museum.")
+                .locationName("Sibiu")
+                .latitude("45.7983")
+                .longitude("24.1256")
+                .mediaList(new ArrayList<>())
+                .build();
+        journalDTO = JournalAdditionDTO.builder()
+                .userId(1L)
+                .title("Summer in Transylvania")
+                .description("Two weeks between Brasov, Sibiu and Sighisoara")
+                .imageUrl("https://example.com/cover.jpg")
+                .build();
+        userDTO = UserCreationDTO.builder()
+                .username("benchmark")
+                .email("benchmark@traveljournal.com")
+                .password("secret")
+                .build();
+    }
+
+    @Benchmark
+    public Entry entryToEntity() {
+        return EntryMapper.toEntity(entryDTO);
+    }
+
+    @Benchmark
+    public Journal journalToEntity() {
+        return JournalMapper.toEntity(journalDTO);
+    }
+
+    @Benchmark
+    public User userToEntity() {
+        return UserMapper.toEntity(userDTO);
+    }
+}
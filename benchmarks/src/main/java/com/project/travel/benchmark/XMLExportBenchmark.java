@@ -0,0 +1,58 @@
+package com.project.travel.benchmark;
+
+import com.project.travel.service.implementation.XMLExportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XML document generation of the export service, for users with growing
+ * numbers of journals and entries
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLExportBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int journals;
+
+    @Param({"10", "100"})
+    private int entriesPerJournal;
+
+    private XMLExportServiceImpl exportService;
+    private Long userId;
+    private Long journalId;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures(journals, entriesPerJournal, 2);
+        exportService = new XMLExportServiceImpl(fixtures.userService(), fixtures.journalService(),
+                fixtures.entryService());
+        userId = fixtures.getUser().getId();
+        journalId = fixtures.getJournals().get(0).getId();
+    }
+
+    @Benchmark
+    public byte[] profileStats() {
+        return exportService.exportUserProfileStats(userId);
+    }
+
+    @Benchmark
+    public byte[] completeDataWithMedia() {
+        return exportService.exportCompleteUserData(userId, true);
+    }
+
+    @Benchmark
+    public byte[] completeDataWithoutMedia() {
+        return exportService.exportCompleteUserData(userId, false);
+    }
+
+    @Benchmark
+    public byte[] singleJournal() {
+        return exportService.exportJournalData(journalId);
+    }
+}
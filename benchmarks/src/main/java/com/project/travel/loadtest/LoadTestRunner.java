@@ -0,0 +1,183 @@
+package com.project.travel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.project.travel.loadtest.Scenarios.Scenario;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-model load test against a running travel service: every virtual
+ * user picks a scenario by weight, runs it and starts the next one at once.
+ * Latencies are recorded per scenario after the warmup and reported as
+ * percentiles together with the throughput.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.project.travel.loadtest.LoadTestRunner \
+ *     --base-url=http://localhost:8080 --threads=16 --duration=60 --warmup=10 \
+ *     --mix=browse:60,create_entry:20,upload:10,export:10 \
+ *     --generate=100,5,20,2 --seed=42
+ * </pre>
+ * --generate seeds users,journals-per-user,entries-per-journal,media-per-entry
+ * through POST /mock-data first; without it the users already stored are used.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        long durationMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("duration", "60")));
+        long warmupMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("warmup", "10")));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Map<Scenario, Integer> mix = parseMix(options.getOrDefault("mix", "browse:60,create_entry:20,upload:10,export:10"));
+
+        Scenarios scenarios = new Scenarios(baseUrl);
+        if (options.containsKey("generate")) {
+            int[] sizes = Arrays.stream(options.get("generate").split(",")).mapToInt(Integer::parseInt).toArray();
+            if (sizes.length != 4) {
+                throw new IllegalArgumentException("--generate expects users,journals,entries,media");
+            }
+            JsonNode report = scenarios.generateData(seed, sizes[0], sizes[1], sizes[2], sizes[3]);
+            System.out.printf("Generated %d users, %d journals, %d entries, %d media in %d ms%n",
+                    report.get("userIds").size(), report.get("journalsCreated").asLong(),
+                    report.get("entriesCreated").asLong(), report.get("mediaCreated").asLong(),
+                    report.get("durationMillis").asLong());
+        } else {
+            System.out.printf("Using %d existing users%n", scenarios.discoverUsers());
+        }
+
+        System.out.printf("Running %s with %d threads: %d s warmup, %d s measured%n",
+                mix, threads, warmupMillis / 1000, durationMillis / 1000);
+
+        long start = System.currentTimeMillis();
+        long measureFrom = start + warmupMillis;
+        long end = measureFrom + durationMillis;
+        List<Recorder> recorders = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger firstErrors = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            Random random = new Random(seed + t);
+            Thread worker = new Thread(() -> {
+                try {
+                    while (System.currentTimeMillis() < end) {
+                        Scenario scenario = pick(mix, random);
+                        long begin = System.nanoTime();
+                        boolean failed = false;
+                        try {
+                            scenarios.run(scenario, random);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            failed = true;
+                            if (firstErrors.incrementAndGet() <= 10) {
+                                System.err.println(scenario + ": " + e.getMessage());
+                            }
+                        }
+                        if (System.currentTimeMillis() >= measureFrom) {
+                            recorder.record(scenario, System.nanoTime() - begin, failed);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-test-" + t);
+            worker.start();
+        }
+        done.await();
+
+        report(recorders, mix.keySet(), durationMillis);
+    }
+
+    private static void report(List<Recorder> recorders, Set<Scenario> scenarios, long durationMillis) {
+        System.out.printf("%n%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "count", "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Scenario scenario : scenarios) {
+            long[] latencies = recorders.stream()
+                    .flatMapToLong(recorder -> Arrays.stream(recorder.latencies(scenario)))
+                    .sorted()
+                    .toArray();
+            long errors = recorders.stream().mapToLong(recorder -> recorder.errors[scenario.ordinal()]).sum();
+            System.out.printf("%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    scenario.name().toLowerCase(), latencies.length, errors,
+                    latencies.length * 1000.0 / durationMillis,
+                    percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static Scenario pick(Map<Scenario, Integer> mix, Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int value = random.nextInt(total);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty scenario mix");
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : mix.split(",")) {
+            String[] weight = part.split(":");
+            int value = Integer.parseInt(weight[1].trim());
+            if (value > 0) {
+                weights.put(Scenario.valueOf(weight[0].trim().toUpperCase()), value);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one scenario with a positive weight");
+        }
+        return weights;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    // Inner class holding the latencies of one worker thread, so recording needs no locking
+    private static class Recorder {
+        private final long[][] latencies = new long[Scenario.values().length][1024];
+        private final int[] counts = new int[Scenario.values().length];
+        private final long[] errors = new long[Scenario.values().length];
+
+        void record(Scenario scenario, long nanos, boolean failed) {
+            int index = scenario.ordinal();
+            if (failed) {
+                errors[index]++;
+                return;
+            }
+            if (counts[index] == latencies[index].length) {
+                latencies[index] = Arrays.copyOf(latencies[index], counts[index] * 2);
+            }
+            latencies[index][counts[index]++] = nanos;
+        }
+
+        long[] latencies(Scenario scenario) {
+            return Arrays.copyOf(latencies[scenario.ordinal()], counts[scenario.ordinal()]);
+        }
+    }
+}
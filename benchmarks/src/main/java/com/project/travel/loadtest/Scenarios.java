@@ -0,0 +1,182 @@
+package com.project.travel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The user journeys of the load test, each a short sequence of API calls.
+ * Users come from the mock data generator or GET /users; journals are
+ * looked up once per user and remembered.
+ */
+public class Scenarios {
+
+    public enum Scenario {
+        BROWSE, CREATE_ENTRY, UPLOAD, EXPORT
+    }
+
+    private static final String[] LOCATIONS = {"Cluj-Napoca", "Brasov", "Sibiu", "Timisoara", "Iasi"};
+    private static final int UPLOAD_SIZE = 64 * 1024;
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> userIds = new ArrayList<>();
+    private final Map<Long, List<Long>> journalsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong createdEntries = new AtomicLong();
+
+    public Scenarios(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Seed the server through POST /mock-data (travel.mock-data.enabled=true)
+     * @return Report of the generator
+     */
+    public JsonNode generateData(long seed, int users, int journalsPerUser, int entriesPerJournal, int mediaPerEntry)
+            throws IOException, InterruptedException {
+        String query = String.format("?seed=%d&users=%d&journalsPerUser=%d&entriesPerJournal=%d&mediaPerEntry=%d",
+                seed, users, journalsPerUser, entriesPerJournal, mediaPerEntry);
+        JsonNode report = send(HttpRequest.newBuilder(uri("/mock-data" + query))
+                .timeout(Duration.ofHours(1))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        report.get("userIds").forEach(id -> userIds.add(id.asLong()));
+        return report;
+    }
+
+    /**
+     * Use the users already in the database
+     * @return Number of users found
+     */
+    public int discoverUsers() throws IOException, InterruptedException {
+        JsonNode users = send(get("/users"));
+        users.forEach(user -> userIds.add(user.get("id").asLong()));
+        return userIds.size();
+    }
+
+    public void run(Scenario scenario, Random random) throws IOException, InterruptedException {
+        switch (scenario) {
+            case BROWSE -> browse(random);
+            case CREATE_ENTRY -> createEntry(random);
+            case UPLOAD -> upload(random);
+            case EXPORT -> export(random);
+        }
+    }
+
+    // Journals of a user, then one journal with its entries
+    private void browse(Random random) throws IOException, InterruptedException {
+        Long journalId = randomJournal(random);
+        if (journalId == null) {
+            return;
+        }
+        send(get("/journals/" + journalId));
+        send(get("/entries/journal/" + journalId));
+    }
+
+    private void createEntry(Random random) throws IOException, InterruptedException {
+        Long journalId = randomJournal(random);
+        if (journalId == null) {
+            return;
+        }
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("journalId", journalId);
+        entry.put("title", "Load test entry " + createdEntries.incrementAndGet());
+        entry.put("content", "Written by the load test while visiting the old town and the market.");
+        entry.put("locationName", LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        entry.put("latitude", String.valueOf(44 + random.nextDouble() * 4));
+        entry.put("longitude", String.valueOf(21 + random.nextDouble() * 8));
+
+        send(HttpRequest.newBuilder(uri("/entries"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(entry)))
+                .build());
+    }
+
+    private void upload(Random random) throws IOException, InterruptedException {
+        byte[] content = new byte[UPLOAD_SIZE];
+        random.nextBytes(content);
+        String boundary = "loadtest" + random.nextLong();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(UPLOAD_SIZE + 512);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"loadtest.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"caption\"\r\n\r\n"
+                + "Load test upload\r\n"
+                + "--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        send(HttpRequest.newBuilder(uri("/media/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build());
+    }
+
+    private void export(Random random) throws IOException, InterruptedException {
+        Long userId = randomUser(random);
+        if (userId != null) {
+            sendDiscarding(get("/export/user/" + userId + "/complete-data?includeMedia=true"));
+        }
+    }
+
+    private Long randomUser(Random random) {
+        return userIds.isEmpty() ? null : userIds.get(random.nextInt(userIds.size()));
+    }
+
+    private Long randomJournal(Random random) throws IOException, InterruptedException {
+        Long userId = randomUser(random);
+        if (userId == null) {
+            return null;
+        }
+        List<Long> journals = journalsByUser.get(userId);
+        if (journals == null) {
+            journals = new ArrayList<>();
+            for (JsonNode journal : send(get("/journals/user/" + userId))) {
+                journals.add(journal.get("id").asLong());
+            }
+            journalsByUser.put(userId, journals);
+        }
+        return journals.isEmpty() ? null : journals.get(random.nextInt(journals.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        check(request, response.statusCode());
+        return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+
+    private void sendDiscarding(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        check(request, response.statusCode());
+    }
+
+    private void check(HttpRequest request, int status) throws IOException {
+        if (status >= 400) {
+            throw new IOException(request.method() + " " + request.uri().getPath() + " returned " + status);
+        }
+    }
+}
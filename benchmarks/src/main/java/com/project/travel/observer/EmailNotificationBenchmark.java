@@ -0,0 +1,51 @@
+package com.project.travel.observer;
+
+import com.project.travel.benchmark.Fixtures;
+import com.project.travel.event.EntryEvent;
+import com.project.user.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subject and content generation of the email notification observer. Lives
+ * in the observer package to reach the package-private generators without
+ * going through the log output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailNotificationBenchmark {
+
+    private EmailNotificationObserver observer;
+    private User user;
+    private EntryEvent createdEvent;
+    private EntryEvent bulkCreatedEvent;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures(1, 100, 0);
+        observer = new EmailNotificationObserver(fixtures.identityService());
+        user = fixtures.getUser();
+        createdEvent = EntryEvent.created(fixtures.getEntries(1L).get(0), user.getId());
+        bulkCreatedEvent = EntryEvent.bulkCreated(fixtures.getEntries(1L), user.getId());
+    }
+
+    @Benchmark
+    public String subject() {
+        return observer.generateEmailSubject(createdEvent);
+    }
+
+    @Benchmark
+    public String contentForCreatedEntry() {
+        return observer.generateEmailContent(createdEvent, user);
+    }
+
+    @Benchmark
+    public String contentForBulkCreate() {
+        return observer.generateEmailContent(bulkCreatedEvent, user);
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.travel.config;
+
+import com.project.travel.service.CacheInvalidationBus;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager decorator that publishes every eviction on the invalidation
+ * bus, and applies the evictions published by other instances to the local
+ * caches without publishing them again. Both kinds are also passed to an
+ * eviction listener, which keeps the list versions behind the list ETags.
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus bus;
+    private final CacheInvalidationBus.Listener evictionListener;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public BroadcastingCacheManager(CacheManager delegate, CacheInvalidationBus bus,
+                                    CacheInvalidationBus.Listener evictionListener) {
+        this.delegate = delegate;
+        this.bus = bus;
+        this.evictionListener = evictionListener;
+        bus.subscribe(this::applyRemoteInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        return cache != null ? caches.computeIfAbsent(name, n -> new BroadcastingCache(cache)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void applyRemoteInvalidation(String cacheName, Object key) {
+        Cache cache = delegate.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+        evictionListener.onInvalidation(cacheName, key);
+    }
+
+    private void evicted(String cacheName, Object key) {
+        evictionListener.onInvalidation(cacheName, key);
+        bus.publish(cacheName, key);
+    }
+
+    private class BroadcastingCache implements Cache {
+        private final Cache target;
+
+        BroadcastingCache(Cache target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            target.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return target.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            evicted(getName(), key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            // Other instances may hold the key even if this one does not
+            boolean present = target.evictIfPresent(key);
+            evicted(getName(), key);
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            evicted(getName(), null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean present = target.invalidate();
+            evicted(getName(), null);
+            return present;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.travel.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.travel.constants.CacheNames;
+import com.project.travel.service.CacheInvalidationBus;
+import com.project.travel.service.ListVersionService;
+import com.project.user.cache.SpringUserCache;
+import com.project.user.cache.UserCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus,
+                                     ListVersionService listVersionService,
+                                     @Value("${travel.cache.max-size:10000}") long maxSize,
+                                     @Value("${travel.cache.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CacheNames.JOURNALS,
+                CacheNames.JOURNAL_ENTRIES,
+                CacheNames.USER_JOURNALS,
+                CacheNames.USERS
+        );
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl));
+        cacheManager.setAllowNullValues(false);
+        // Evictions made inside a transaction are applied after commit. The
+        // lists are cached with sync = true, so they load inside Caffeine's
+        // compute: an eviction arriving while an older read is still loading
+        // waits for it and then drops its result, instead of that read putting
+        // the pre-commit list back for the whole TTL under a new list version.
+        // Only after commit are evictions broadcast, so other instances reload committed data,
+        // and only then do the list versions move on.
+        return new TransactionAwareCacheManagerProxy(
+                new BroadcastingCacheManager(cacheManager, cacheInvalidationBus, listVersionService::invalidated));
+    }
+
+    // The identity service caches users here, so their evictions reach the other instances too
+    @Bean
+    public UserCache userCache(CacheManager cacheManager) {
+        return new SpringUserCache(cacheManager.getCache(CacheNames.USERS));
+    }
+}
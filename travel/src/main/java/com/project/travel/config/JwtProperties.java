@@ -0,0 +1,36 @@
+package com.project.travel.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keys accepted for the access tokens issued by the authentication service,
+ * by key id (kid). During a key rotation both the old and the new key are
+ * listed. Without jwt.keys, jwt.secret is the only key, with the id "default".
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private String secret;
+    private String issuer = "travel-authentication";
+    // Reject requests without a token instead of treating them as anonymous
+    private boolean required = false;
+    private long clockSkewSeconds = 30;
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    public Map<String, String> getVerificationKeys() {
+        if (!keys.isEmpty()) {
+            return keys;
+        }
+        return secret != null ? Map.of(DEFAULT_KEY_ID, secret) : Map.of();
+    }
+}
@@ -1,28 +1,83 @@
-/*
 package com.project.travel.config;
 
+import com.project.travel.security.StompAuthenticationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.time.Duration;
+
+/**
+ * STOMP over WebSocket for the notifications of NotificationService. Each
+ * user reads /user/queue/notifications; heartbeats in both directions let
+ * either side notice a dead connection. Every session has a bounded send
+ * buffer: a client that does not keep up is disconnected instead of letting
+ * messages pile up in memory, and catches up over REST when it reconnects.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Value("${travel.notifications.allowed-origins:http://localhost:3000}")
+    private String[] allowedOrigins;
+
+    @Value("${travel.notifications.heartbeat:10s}")
+    private Duration heartbeat;
+
+    @Value("${travel.notifications.send-buffer-size-limit:512KB}")
+    private DataSize sendBufferSizeLimit;
+
+    @Value("${travel.notifications.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${travel.notifications.message-size-limit:16KB}")
+    private DataSize messageSizeLimit;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // Created by the broker configuration itself, hence lazy
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        registry.enableSimpleBroker("/queue")
+                .setHeartbeatValue(new long[]{heartbeat.toMillis(), heartbeat.toMillis()})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setUserDestinationPrefix("/user");
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry stompEndpointRegistry) {
         stompEndpointRegistry.addEndpoint("/socket")
-                .setAllowedOrigins("http://localhost:3000")
+                .setAllowedOriginPatterns(allowedOrigins)
                 .withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes());
+    }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
 }
-*/
@@ -0,0 +1,13 @@
+package com.project.travel.constants;
+
+public final class CacheNames {
+    public static final String JOURNALS = "journals";
+    public static final String JOURNAL_ENTRIES = "journalEntries";
+    public static final String USER_JOURNALS = "userJournals";
+    public static final String USERS = "users";
+    // Not a Spring cache: map cluster tiles kept by MapClusterServiceImpl
+    public static final String MAP_TILES = "mapTiles";
+
+    private CacheNames() {
+    }
+}
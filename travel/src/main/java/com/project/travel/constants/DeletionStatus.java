@@ -0,0 +1,8 @@
+package com.project.travel.constants;
+
+public enum DeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
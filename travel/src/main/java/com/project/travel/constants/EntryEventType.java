@@ -2,6 +2,7 @@ package com.project.travel.constants;
 
 public enum EntryEventType {
     ENTRY_CREATED,
+    ENTRIES_CREATED,
     ENTRY_UPDATED,
     ENTRY_DELETED,
     MEDIA_ADDED_TO_ENTRY
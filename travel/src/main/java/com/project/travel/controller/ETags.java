@@ -0,0 +1,99 @@
+package com.project.travel.controller;
+
+import com.project.travel.exceptions.ApiExceptionResponse;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+
+/**
+ * Entity tags of journals and entries. The tag is the optimistic lock version,
+ * so conditional requests are answered without hashing the response body, and
+ * If-Match becomes the expected version of the single versioned UPDATE.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + (version != null ? version : 0) + "\"";
+    }
+
+    /**
+     * Parse an If-Match header
+     * @param header If-Match value, may be null
+     * @return The condition: none, any version ("*"), or one version
+     */
+    static IfMatch ifMatch(String header) throws ApiExceptionResponse {
+        if (header == null || header.isBlank()) {
+            return IfMatch.NONE;
+        }
+        String tag = header.trim();
+        if (tag.equals("*")) {
+            return IfMatch.ANY;
+        }
+        if (tag.contains(",")) {
+            throw ApiExceptionResponse.builder()
+                    .message("Invalid If-Match header")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .errors(Collections.singletonList("Only a single entity tag is supported"))
+                    .build();
+        }
+        // If-Match compares strongly, so a weak or foreign tag can never match
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return new IfMatch(true, Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException ignored) {
+                // falls through to the failed precondition
+            }
+        }
+        throw preconditionFailed(tag);
+    }
+
+    /**
+     * On a conditional request, a version conflict, or a missing resource
+     * for "*", is a failed precondition
+     * @param e Exception thrown by the update
+     * @param ifMatch Condition of the request
+     */
+    static ApiExceptionResponse onConflict(ApiExceptionResponse e, IfMatch ifMatch) {
+        if (ifMatch.version() != null && e.getStatus() == HttpStatus.CONFLICT) {
+            return preconditionFailed(of(ifMatch.version()));
+        }
+        if (ifMatch.isAny() && e.getStatus() == HttpStatus.NOT_FOUND) {
+            return preconditionFailed("*");
+        }
+        return e;
+    }
+
+    /**
+     * Condition of an If-Match header. "*" matches any current version, so
+     * it overrides a version sent in the body instead of falling back to it.
+     * @param present Whether the request had the header
+     * @param version Version of the single tag, null for "*" or no header
+     */
+    record IfMatch(boolean present, Long version) {
+        static final IfMatch NONE = new IfMatch(false, null);
+        static final IfMatch ANY = new IfMatch(true, null);
+
+        boolean isAny() {
+            return present && version == null;
+        }
+
+        /**
+         * @param bodyVersion Version sent in the request body, may be null
+         * @return Version the update must be made against, null for no check
+         */
+        Long expectedVersion(Long bodyVersion) {
+            return present ? version : bodyVersion;
+        }
+    }
+
+    private static ApiExceptionResponse preconditionFailed(String tag) {
+        return ApiExceptionResponse.builder()
+                .message("Precondition failed")
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .errors(Collections.singletonList("The resource does not match If-Match " + tag))
+                .build();
+    }
+}
@@ -1,29 +1,35 @@
 package com.project.travel.controller;
 
+import com.project.travel.constants.CacheNames;
+import com.project.travel.dto.EntryPatchDTO;
 import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Entry;
 import com.project.travel.service.EntryService;
 import com.project.travel.service.JournalService;
+import com.project.travel.service.ListVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/entries")
 @RequiredArgsConstructor
 public class EntryController {
 
     private final EntryService entryService;
     private final JournalService journalService;
+    private final ListVersionService listVersionService;
 
     @Operation(
             summary = "Get all entries",
@@ -38,33 +44,45 @@ public class EntryController {
 
     @Operation(
             summary = "Get entry by ID",
-            description = "Returns an entry by its ID"
+            description = "Returns an entry by its ID with its version as ETag; If-None-Match with that tag returns 304 without a body"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Entry found"),
+            @ApiResponse(responseCode = "304", description = "Entry unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Entry not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<Entry> getEntryById(@PathVariable Long id) throws ApiExceptionResponse {
         Optional<Entry> entry = entryService.getEntryById(id);
-        return entry.map(ResponseEntity::ok)
+        // Media attachments are owned by the entry, so attaching one also changes the tag
+        return entry.map(e -> ResponseEntity.ok().eTag(ETags.of(e.getVersion())).body(e))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Operation(
             summary = "Get entries by journal ID",
-            description = "Returns a list of entries by journal ID"
+            description = "Returns a list of entries by journal ID with a weak ETag; If-None-Match with that tag returns 304 without a body"
     )
-    @ApiResponse(responseCode = "200", description = "Entry list by journal ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Entry list by journal ID"),
+            @ApiResponse(responseCode = "304", description = "Entry list unchanged since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Journal not found")
+    })
     @GetMapping("/journal/{journalId}")
-    public ResponseEntity<List<Entry>> getEntriesByJournalId(@PathVariable Long journalId) {
+    public ResponseEntity<List<Entry>> getEntriesByJournalId(@PathVariable Long journalId, WebRequest request) {
+        // Taken before the read: a change committed meanwhile moves the tag on, so the client fetches again
+        String eTag = listVersionService.tag(CacheNames.JOURNAL_ENTRIES, journalId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         // if the journal exists
         if (journalService.getJournalById(journalId).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         List<Entry> entries = entryService.getEntriesByJournalId(journalId);
-        return ResponseEntity.ok(entries);
+        return ResponseEntity.ok().eTag(eTag).body(entries);
     }
 
     @Operation(
@@ -89,38 +107,69 @@ public class EntryController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
     }
 
+    @Operation(
+            summary = "Create entries in bulk",
+            description = "Creates several entries in a single transaction; nothing is saved if any entry is invalid"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Entries created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid entries or unknown journals")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Entry>> createEntries(@RequestBody List<Entry> entries) throws ApiExceptionResponse {
+        List<Entry> createdEntries = entryService.addEntries(entries);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdEntries);
+    }
+
     @Operation(
             summary = "Update an entry",
-            description = "Updates an existing entry in the system"
+            description = "Updates an existing entry in the system; fields left out or null are kept. "
+                    + "With If-Match, the update only succeeds if the entry still has that ETag"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Entry updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty title or unknown journal"),
             @ApiResponse(responseCode = "404", description = "Entry not found"),
+            @ApiResponse(responseCode = "409", description = "Entry changed since the given version"),
+            @ApiResponse(responseCode = "412", description = "Entry no longer matches If-Match, or does not exist for If-Match *")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Entry> updateEntry(@PathVariable Long id, @RequestBody Entry entry) {
+    public ResponseEntity<Entry> updateEntry(@PathVariable Long id, @RequestBody Entry entry,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ApiExceptionResponse {
+        ETags.IfMatch condition = ETags.ifMatch(ifMatch);
+        entry.setId(id);
+        entry.setVersion(condition.expectedVersion(entry.getVersion()));
         try {
-            // if the entry exists
-            Optional<Entry> existingEntry = entryService.getEntryById(id);
-            if (existingEntry.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            // keep original journal ID if not provided otherwise
-            entry.setId(id);
-            if (entry.getJournalId() == null) {
-                entry.setJournalId(existingEntry.get().getJournalId());
-            } else {
-                // if journal ID is provided, check if it exists
-                if (journalService.getJournalById(entry.getJournalId()).isEmpty()) {
-                    return ResponseEntity.badRequest().build();
-                }
-            }
-
             Entry updatedEntry = entryService.updateEntry(entry);
-            return ResponseEntity.ok(updatedEntry);
-        } catch (NoSuchElementException | ApiExceptionResponse e) {
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.ok().eTag(ETags.of(updatedEntry.getVersion())).body(updatedEntry);
+        } catch (ApiExceptionResponse e) {
+            throw ETags.onConflict(e, condition);
+        }
+    }
+
+    @Operation(
+            summary = "Partially update an entry",
+            description = "Changes only the given fields with a single update; with a version, fails if the entry changed since"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Entry updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty title, unknown journal or empty change"),
+            @ApiResponse(responseCode = "404", description = "Entry not found"),
+            @ApiResponse(responseCode = "409", description = "Entry changed since the given version"),
+            @ApiResponse(responseCode = "412", description = "Entry no longer matches If-Match, or does not exist for If-Match *")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchEntry(@PathVariable Long id, @RequestBody EntryPatchDTO patch,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ApiExceptionResponse {
+        ETags.IfMatch condition = ETags.ifMatch(ifMatch);
+        patch.setVersion(condition.expectedVersion(patch.getVersion()));
+        try {
+            Entry entry = entryService.patchEntry(id, patch);
+            return ResponseEntity.noContent().eTag(ETags.of(entry.getVersion())).build();
+        } catch (ApiExceptionResponse e) {
+            throw ETags.onConflict(e, condition);
         }
     }
 
@@ -7,13 +7,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.project.travel.dto.LocationSuggestionDTO;
+import com.project.travel.service.LocationAutocompleteService;
 import com.project.travel.service.implementation.GeocodingService;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+@Slf4j
 @RestController
 @RequestMapping("/map")
 @CrossOrigin(origins = "http://localhost:3000")
@@ -21,10 +27,13 @@ import java.util.Map;
 public class GeocodingController {
 
     private final GeocodingService geocodingService;
+    private final LocationAutocompleteService locationAutocompleteService;
 
     @Autowired
-    public GeocodingController(GeocodingService geocodingService) {
+    public GeocodingController(GeocodingService geocodingService,
+                               LocationAutocompleteService locationAutocompleteService) {
         this.geocodingService = geocodingService;
+        this.locationAutocompleteService = locationAutocompleteService;
     }
 
     @Operation(
@@ -65,15 +74,48 @@ public class GeocodingController {
         }
 
         try {
-            return geocodingService.geocodeLocation(location);
+            Optional<LocationSuggestionDTO> result = locationAutocompleteService.resolve(location)
+                    .filter(suggestion -> suggestion.getLatitude() != null && suggestion.getLongitude() != null);
+            if (result.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            return ResponseEntity.ok(Map.of(
+                    "lat", result.get().getLatitude(),
+                    "lng", result.get().getLongitude(),
+                    "displayName", result.get().getName()
+            ));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to geocode location {}", location, e);
             return ResponseEntity.status(500).body(
                     Map.of("error", "Error processing geocoding request")
             );
         }
     }
 
+    @Operation(
+            summary = "Location autocomplete",
+            description = "Returns ranked, typo-tolerant location suggestions from the locations already used by entries and previous geocoding results. Falls back to geocoding only when nothing matches"
+    )
+    @ApiResponse(responseCode = "200", description = "List of location suggestions")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocompleteLocation(
+            @Parameter(description = "Text typed so far", required = true, example = "Bras")
+            @RequestParam String query,
+            @Parameter(description = "Maximum number of suggestions", example = "5")
+            @RequestParam(defaultValue = "5") int limit) {
+
+        try {
+            List<LocationSuggestionDTO> suggestions = locationAutocompleteService.suggest(query, Math.max(1, Math.min(limit, 20)));
+            return ResponseEntity.ok(suggestions);
+        } catch (Exception e) {
+            log.error("Failed to suggest locations for {}", query, e);
+            return ResponseEntity.status(500).body(
+                    Map.of("error", "Error processing autocomplete request")
+            );
+        }
+    }
+
     @Operation(
             summary = "Reverse geocoding",
             description = "Convert geographic coordinates to a location name",
@@ -110,7 +152,7 @@ public class GeocodingController {
         try {
             return geocodingService.reverseGeocode(lat, lng);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to reverse geocode {}, {}", lat, lng, e);
             return ResponseEntity.status(500).body(
                     Map.of("error", "Error processing reverse geocoding request")
             );
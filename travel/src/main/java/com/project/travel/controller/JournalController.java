@@ -1,19 +1,29 @@
 package com.project.travel.controller;
 
+import com.project.travel.constants.CacheNames;
 import com.project.travel.dto.JournalAdditionDTO;
+import com.project.travel.dto.JournalDeletionDTO;
+import com.project.travel.dto.JournalPatchDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.mapper.JournalMapper;
 import com.project.travel.model.Journal;
+import com.project.travel.service.JournalDeletionService;
 import com.project.travel.service.JournalService;
+import com.project.travel.service.ListVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -21,13 +31,16 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
+@Slf4j
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/journals")
 @RequiredArgsConstructor
 public class JournalController {
 
     private final JournalService journalService;
+    private final JournalDeletionService journalDeletionService;
+    private final ListVersionService listVersionService;
 
     @Operation(
             summary = "Get all journals",
@@ -50,10 +63,11 @@ public class JournalController {
 
     @Operation(
             summary = "Get journal by ID",
-            description = "Returns a journal by its ID"
+            description = "Returns a journal by its ID with its version as ETag; If-None-Match with that tag returns 304 without a body"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Journal found"),
+            @ApiResponse(responseCode = "304", description = "Journal unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Journal not found")
     })
     @GetMapping("/{id}")
@@ -61,7 +75,8 @@ public class JournalController {
         @NotNull(message = "Journal ID cannot be null")
         @Positive(message = "Journal ID must be positive")
         Optional<Journal> journal = journalService.getJournalById(id);
-        return journal.map(ResponseEntity::ok)
+        // The ETag lets Spring answer a matching If-None-Match with 304 before writing the body
+        return journal.map(j -> ResponseEntity.ok().eTag(ETags.of(j.getVersion())).body(j))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -78,7 +93,7 @@ public class JournalController {
             return ResponseEntity.badRequest().build();
         }
 
-        System.out.println("Creating journal with userId: " + journalDTO.getUserId());
+        log.debug("Creating journal with userId: {}", journalDTO.getUserId());
 
         Journal journal = JournalMapper.toEntity(journalDTO);
         Journal createdJournal = journalService.addJournal(journal);
@@ -89,52 +104,88 @@ public class JournalController {
 
     @Operation(
             summary = "Update journal information",
-            description = "Updates an existing journal's information"
+            description = "Updates an existing journal's information; fields left out or null are kept. "
+                    + "With If-Match, the update only succeeds if the journal still has that ETag"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Journal updated successfully"),
-            @ApiResponse(responseCode = "404", description = "Journal not found")
+            @ApiResponse(responseCode = "404", description = "Journal not found"),
+            @ApiResponse(responseCode = "409", description = "Journal changed since the given version"),
+            @ApiResponse(responseCode = "412", description = "Journal no longer matches If-Match, or does not exist for If-Match *")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Journal> updateJournal(@PathVariable Long id, @RequestBody Journal journal) {
+    public ResponseEntity<Journal> updateJournal(@PathVariable Long id, @RequestBody Journal journal,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ApiExceptionResponse {
+        ETags.IfMatch condition = ETags.ifMatch(ifMatch);
+        journal.setId(id);
+        journal.setVersion(condition.expectedVersion(journal.getVersion()));
         try {
-            // check if journal exists
-            Optional<Journal> existingJournal = journalService.getJournalById(id);
-            if (existingJournal.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            // keep userID
-            journal.setId(id);
-            if (journal.getUserId() == null) {
-                journal.setUserId(existingJournal.get().getUserId());
-            }
-
             Journal updatedJournal = journalService.updateJournal(journal);
-            return ResponseEntity.ok(updatedJournal);
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.ok().eTag(ETags.of(updatedJournal.getVersion())).body(updatedJournal);
+        } catch (ApiExceptionResponse e) {
+            throw ETags.onConflict(e, condition);
+        }
+    }
+
+    @Operation(
+            summary = "Partially update a journal",
+            description = "Changes only the given fields with a single update; with a version, fails if the journal changed since"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Journal updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid or empty change"),
+            @ApiResponse(responseCode = "404", description = "Journal not found"),
+            @ApiResponse(responseCode = "409", description = "Journal changed since the given version"),
+            @ApiResponse(responseCode = "412", description = "Journal no longer matches If-Match, or does not exist for If-Match *")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchJournal(@PathVariable Long id, @Valid @RequestBody JournalPatchDTO patch,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ApiExceptionResponse {
+        ETags.IfMatch condition = ETags.ifMatch(ifMatch);
+        patch.setVersion(condition.expectedVersion(patch.getVersion()));
+        try {
+            Journal journal = journalService.patchJournal(id, patch);
+            return ResponseEntity.noContent().eTag(ETags.of(journal.getVersion())).build();
+        } catch (ApiExceptionResponse e) {
+            throw ETags.onConflict(e, condition);
         }
     }
 
     @Operation(
             summary = "Deletes a journal",
-            description = "Deletes a journal from the system by its ID"
+            description = "Starts deleting a journal with its entries and media in the background"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Journal deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Journal deletion started"),
             @ApiResponse(responseCode = "404", description = "Journal not found")
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteJournal(@PathVariable Long id) {
+    public ResponseEntity<JournalDeletionDTO> deleteJournal(@PathVariable Long id) {
         try {
-            journalService.deleteJournal(id);
-            return ResponseEntity.noContent().build();
+            JournalDeletionDTO deletion = journalService.deleteJournal(id);
+            return ResponseEntity.accepted().body(deletion);
         } catch (NoSuchElementException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @Operation(
+            summary = "Get journal deletion progress",
+            description = "Returns the progress of a background journal deletion"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deletion progress"),
+            @ApiResponse(responseCode = "404", description = "No recent deletion for this journal")
+    })
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<JournalDeletionDTO> getDeletionProgress(@PathVariable Long id) {
+        return journalDeletionService.getProgress(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Upload a cover image for a journal",
             description = "Uploads a cover image for a specific journal by its ID"
@@ -158,12 +209,21 @@ public class JournalController {
 
     @Operation(
             summary = "Get journals by user ID",
-            description = "Returns a list of journals for a specific user by their ID"
+            description = "Returns a list of journals for a specific user by their ID with a weak ETag; "
+                    + "If-None-Match with that tag returns 304 without a body"
     )
-    @ApiResponse(responseCode = "200", description = "List of journals for the user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of journals for the user"),
+            @ApiResponse(responseCode = "304", description = "Journal list unchanged since the given ETag")
+    })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Journal>> getJournalsByUserId(@PathVariable Long userId) {
+    public ResponseEntity<List<Journal>> getJournalsByUserId(@PathVariable Long userId, WebRequest request) {
+        // Looked up before the journals, so a write landing in between can only cost a refetch
+        String eTag = listVersionService.tag(CacheNames.USER_JOURNALS, userId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<Journal> journals = journalService.getJournalsByUserId(userId);
-        return ResponseEntity.ok(journals);
+        return ResponseEntity.ok().eTag(eTag).body(journals);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.project.travel.controller;
+
+import com.project.travel.dto.MapClusterDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.security.AuthenticatedUser;
+import com.project.travel.service.MapClusterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/map")
+@RequiredArgsConstructor
+public class MapClusterController {
+
+    private final MapClusterService mapClusterService;
+
+    @Operation(
+            summary = "Get entry clusters for a map viewport",
+            description = "Returns pre-aggregated clusters (count, centroid, sample entry IDs) of the user's entries inside the bounding box at the given zoom level"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of clusters"),
+            @ApiResponse(responseCode = "400", description = "Invalid bounding box or missing user ID"),
+            @ApiResponse(responseCode = "403", description = "Clusters of another user")
+    })
+    @GetMapping("/clusters")
+    public ResponseEntity<List<MapClusterDTO>> getClusters(
+            @Parameter(description = "South edge of the viewport", required = true) @RequestParam double minLat,
+            @Parameter(description = "West edge of the viewport", required = true) @RequestParam double minLng,
+            @Parameter(description = "North edge of the viewport", required = true) @RequestParam double maxLat,
+            @Parameter(description = "East edge of the viewport", required = true) @RequestParam double maxLng,
+            @Parameter(description = "Map zoom level", required = true) @RequestParam int zoom,
+            @Parameter(description = "ID of the user whose entries are clustered", required = true) @RequestParam Long userId,
+            HttpServletRequest request)
+            throws ApiExceptionResponse {
+        // Clusters carry entry IDs, so they are only served for the caller's own entries
+        List<MapClusterDTO> clusters = mapClusterService.getClusters(minLat, minLng, maxLat, maxLng, zoom,
+                AuthenticatedUser.scope(request, userId));
+        return ResponseEntity.ok(clusters);
+    }
+}
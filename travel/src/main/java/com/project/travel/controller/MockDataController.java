@@ -0,0 +1,61 @@
+package com.project.travel.controller;
+
+import com.project.travel.dto.MockDataReportDTO;
+import com.project.travel.service.MockDataService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Only registered with travel.mock-data.enabled=true, for development and
+ * load-test environments
+ */
+@RestController
+@CrossOrigin
+@RequestMapping("/mock-data")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnProperty(name = "travel.mock-data.enabled", havingValue = "true")
+public class MockDataController {
+
+    private final MockDataService mockDataService;
+
+    @Operation(
+            summary = "Generate synthetic data",
+            description = "Creates users with journals, entries and media; the same seed and sizes always produce the same content"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Data generated"),
+            @ApiResponse(responseCode = "400", description = "Invalid sizes")
+    })
+    @PostMapping
+    public ResponseEntity<MockDataReportDTO> generateMockData(
+            @Parameter(description = "Seed of the random generator")
+            @RequestParam(defaultValue = "42") long seed,
+
+            @Parameter(description = "Number of users")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100000) int users,
+
+            @Parameter(description = "Journals of each user")
+            @RequestParam(defaultValue = "5") @Min(0) @Max(1000) int journalsPerUser,
+
+            @Parameter(description = "Entries of each journal")
+            @RequestParam(defaultValue = "20") @Min(0) @Max(10000) int entriesPerJournal,
+
+            @Parameter(description = "Media attached to each entry")
+            @RequestParam(defaultValue = "2") @Min(0) @Max(20) int mediaPerEntry) {
+
+        MockDataReportDTO report = mockDataService.generateMockData(seed, users, journalsPerUser,
+                entriesPerJournal, mediaPerEntry);
+        return ResponseEntity.status(HttpStatus.CREATED).body(report);
+    }
+}
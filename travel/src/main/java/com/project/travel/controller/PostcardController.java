@@ -1,10 +1,14 @@
 package com.project.travel.controller;
 
+import com.project.travel.dto.PostcardPageDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Postcard;
+import com.project.travel.security.AuthenticatedUser;
 import com.project.travel.service.PostcardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -52,10 +56,14 @@ public class PostcardController {
             summary = "Get postcards sent by a user",
             description = "Fetches all postcards sent by a specific user"
     )
-    @ApiResponse(responseCode = "200", description = "List of postcards sent by the user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of postcards sent by the user"),
+            @ApiResponse(responseCode = "403", description = "The user is not the authenticated user")
+    })
     @GetMapping("/sent/{senderId}")
-    public ResponseEntity<List<Postcard>> getPostcardsSentByUser(@PathVariable Long senderId) {
-        List<Postcard> postcards = postcardService.getPostcardsSentByUser(senderId);
+    public ResponseEntity<List<Postcard>> getPostcardsSentByUser(@PathVariable Long senderId, HttpServletRequest request)
+            throws ApiExceptionResponse {
+        List<Postcard> postcards = postcardService.getPostcardsSentByUser(AuthenticatedUser.scope(request, senderId));
         return ResponseEntity.ok(postcards);
     }
 
@@ -63,13 +71,53 @@ public class PostcardController {
             summary = "Get postcards received by a user",
             description = "Fetches all postcards received by a specific user"
     )
-    @ApiResponse(responseCode = "200", description = "List of postcards received by the user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of postcards received by the user"),
+            @ApiResponse(responseCode = "403", description = "The user is not the authenticated user")
+    })
     @GetMapping("/received/{receiverId}")
-    public ResponseEntity<List<Postcard>> getPostcardsReceivedByUser(@PathVariable Long receiverId) {
-        List<Postcard> postcards = postcardService.getPostcardsReceivedByUser(receiverId);
+    public ResponseEntity<List<Postcard>> getPostcardsReceivedByUser(@PathVariable Long receiverId, HttpServletRequest request)
+            throws ApiExceptionResponse {
+        List<Postcard> postcards = postcardService.getPostcardsReceivedByUser(AuthenticatedUser.scope(request, receiverId));
         return ResponseEntity.ok(postcards);
     }
 
+    @Operation(
+            summary = "Get the inbox of a user",
+            description = "Fetches one page of the postcards received by a user, newest first, "
+                    + "with slim sender and receiver details; pass nextCursor back as cursor for the next page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of received postcards"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "The user is not the authenticated user")
+    })
+    @GetMapping("/inbox/{receiverId}")
+    public ResponseEntity<PostcardPageDTO> getInbox(@PathVariable Long receiverId,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "20") int size,
+                                                    HttpServletRequest request) throws ApiExceptionResponse {
+        return ResponseEntity.ok(postcardService.getInbox(AuthenticatedUser.scope(request, receiverId), cursor, size));
+    }
+
+    @Operation(
+            summary = "Get the outbox of a user",
+            description = "Fetches one page of the postcards sent by a user, newest first, "
+                    + "with slim sender and receiver details; pass nextCursor back as cursor for the next page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of sent postcards"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "The user is not the authenticated user")
+    })
+    @GetMapping("/outbox/{senderId}")
+    public ResponseEntity<PostcardPageDTO> getOutbox(@PathVariable Long senderId,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size,
+                                                     HttpServletRequest request) throws ApiExceptionResponse {
+        return ResponseEntity.ok(postcardService.getOutbox(AuthenticatedUser.scope(request, senderId), cursor, size));
+    }
+
     @Operation(
             summary = "Create a new postcard",
             description = "Creates a new postcard in the system"
@@ -0,0 +1,43 @@
+package com.project.travel.controller;
+
+import com.project.travel.dto.SearchPageDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.security.AuthenticatedUser;
+import com.project.travel.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "Search entries and journals",
+            description = "Full-text search over a user's entry titles, content and locations and journal titles and descriptions, ranked by relevance with highlighted fragments"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of search results"),
+            @ApiResponse(responseCode = "400", description = "Invalid query or paging parameters"),
+            @ApiResponse(responseCode = "403", description = "The user ID is not the authenticated user's")
+    })
+    @GetMapping
+    public ResponseEntity<SearchPageDTO> search(
+            @Parameter(description = "Search terms", required = true) @RequestParam("q") String query,
+            @Parameter(description = "ID of the user whose content is searched; defaults to the authenticated user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request)
+            throws ApiExceptionResponse {
+        return ResponseEntity.ok(searchService.search(query, AuthenticatedUser.scope(request, userId), page, size));
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.travel.controller;
+
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * POST /actuator/searchindex drops the search index and rebuilds it from all
+ * journals and entries in the database. It is an actuator endpoint so it is
+ * only reachable where the management endpoints are: the separate management
+ * port of the prod profile, or the local embedded profile.
+ */
+@Component
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+public class SearchIndexEndpoint {
+
+    private final SearchService searchService;
+
+    @WriteOperation
+    public Map<String, Long> rebuildIndex() throws ApiExceptionResponse {
+        long indexed = searchService.rebuildIndex();
+        return Map.of("indexedDocuments", indexed);
+    }
+}
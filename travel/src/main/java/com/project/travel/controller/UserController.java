@@ -1,8 +1,10 @@
 package com.project.travel.controller;
 
 import com.project.travel.dto.UserCreationDTO;
-import com.project.travel.model.User;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.service.UserService;
+import com.project.user.model.User;
+import com.project.user.model.UserPatch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -57,23 +59,27 @@ public class UserController {
             summary = "Create a new user",
             description = "Creates a new user in the system"
     )
-    @ApiResponse(responseCode = "201", description = "User created successfully")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "User created successfully"),
+            @ApiResponse(responseCode = "409", description = "Username or email already taken")
+    })
     @PostMapping
-    public ResponseEntity<User> createUser(@RequestBody UserCreationDTO userDTO) {
+    public ResponseEntity<User> createUser(@RequestBody UserCreationDTO userDTO) throws ApiExceptionResponse {
         User createdUser = userService.createUser(userDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
     }
 
     @Operation(
             summary = "Update user information",
-            description = "Updates an existing user's information"
+            description = "Updates an existing user's information; fields left out or null are kept"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "409", description = "Username or email already taken, or user changed since the given version")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User user) {
+    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User user) throws ApiExceptionResponse {
         try {
             user.setId(id);
             User updatedUser = userService.updateUser(user);
@@ -83,6 +89,26 @@ public class UserController {
         }
     }
 
+    @Operation(
+            summary = "Partially update a user",
+            description = "Changes only the given fields with a single update; the password is hashed only if given"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "User updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty change"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "409", description = "Username or email already taken, or user changed since the given version")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchUser(@PathVariable Long id, @RequestBody UserPatch patch) throws ApiExceptionResponse {
+        try {
+            userService.patchUser(id, patch);
+            return ResponseEntity.noContent().build();
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @Operation(
             summary = "Delete a user",
             description = "Deletes a user from the system by their ID"
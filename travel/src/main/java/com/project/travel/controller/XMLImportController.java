@@ -0,0 +1,72 @@
+package com.project.travel.controller;
+
+import com.project.travel.dto.ImportReportDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.security.AuthenticatedUser;
+import com.project.travel.service.XMLImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/import")
+@RequiredArgsConstructor
+@Validated
+public class XMLImportController {
+
+    private final XMLImportService xmlImportService;
+
+    @Operation(
+            summary = "Import journals from an XML export",
+            description = "Creates the journals, entries and media of a complete user data or journal export for the given user"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Import completed"),
+            @ApiResponse(responseCode = "400", description = "Invalid or unsupported XML document"),
+            @ApiResponse(responseCode = "403", description = "Import into another user's account"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Error during import")
+    })
+    @PostMapping("/user/{userId}")
+    public ResponseEntity<ImportReportDTO> importUserData(
+            @Parameter(description = "ID of the user receiving the journals", required = true)
+            @PathVariable
+            @NotNull(message = "User ID cannot be null")
+            @Positive(message = "User ID must be positive")
+            Long userId,
+
+            @Parameter(description = "XML file produced by the export endpoints", required = true)
+            @RequestParam("file")
+            MultipartFile file,
+
+            HttpServletRequest request) throws ApiExceptionResponse {
+
+        // Users may only import into their own account
+        Long scopedUserId = AuthenticatedUser.scope(request, userId);
+        try (InputStream xml = file.getInputStream()) {
+            ImportReportDTO report = xmlImportService.importUserData(scopedUserId, xml);
+            return ResponseEntity.status(HttpStatus.CREATED).body(report);
+        } catch (IOException e) {
+            throw ApiExceptionResponse.builder()
+                    .message("Import failed")
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
+        }
+    }
+}
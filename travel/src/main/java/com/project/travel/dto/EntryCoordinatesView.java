@@ -0,0 +1,11 @@
+package com.project.travel.dto;
+
+/**
+ * Slim projection of an entry used for map aggregation,
+ * so clustering does not load content or media attachments
+ */
+public interface EntryCoordinatesView {
+    Long getId();
+    Double getLatitude();
+    Double getLongitude();
+}
@@ -0,0 +1,23 @@
+package com.project.travel.dto;
+import lombok.*;
+
+/**
+ * Partial change to an entry: null fields are left as they are. A journal
+ * ID moves the entry to that journal.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class EntryPatchDTO {
+    private String title;
+    private String content;
+    private String locationName;
+    private String latitude;
+    private String longitude;
+    private Long journalId;
+
+    // Version the change was made against; null skips the optimistic check
+    private Long version;
+}
@@ -0,0 +1,13 @@
+package com.project.travel.dto;
+
+/**
+ * Projection of the searchable entry columns, used for bulk index rebuilds
+ * without loading media attachments
+ */
+public interface EntrySearchView {
+    Long getId();
+    Long getJournalId();
+    String getTitle();
+    String getContent();
+    String getLocationName();
+}
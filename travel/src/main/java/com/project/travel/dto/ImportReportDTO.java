@@ -0,0 +1,17 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ImportReportDTO {
+    private String format;
+    private Long userId;
+    private int journalsImported;
+    private int entriesImported;
+    private int mediaImported;
+    private long durationMillis;
+}
@@ -0,0 +1,20 @@
+package com.project.travel.dto;
+
+import com.project.travel.constants.DeletionStatus;
+import lombok.*;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class JournalDeletionDTO {
+    private Long journalId;
+    private DeletionStatus status;
+    private long entriesDeleted;
+    private long mediaDeleted;
+    private long filesDeleted;
+    private String startedAt;
+    private String finishedAt;
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.project.travel.dto;
+import lombok.*;
+import com.project.travel.validation.ValidJournalTitle;
+import jakarta.validation.constraints.*;
+
+/**
+ * Partial change to a journal: null fields are left as they are.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class JournalPatchDTO {
+
+    @ValidJournalTitle
+    private String title;
+
+    @Size(max = 1000, message = "Description cannot exceed 1000 characters")
+    private String description;
+
+    private String coverImageURL;
+
+    // Version the change was made against; null skips the optimistic check
+    private Long version;
+}
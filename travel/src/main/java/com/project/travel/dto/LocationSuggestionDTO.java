@@ -0,0 +1,14 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class LocationSuggestionDTO {
+    private String name;
+    private Double latitude;
+    private Double longitude;
+}
@@ -0,0 +1,12 @@
+package com.project.travel.dto;
+
+/**
+ * Distinct location name of the stored entries, with the coordinates of
+ * the latest entry that has them and how many entries use it
+ */
+public interface LocationUsageView {
+    String getLocationName();
+    Double getLatitude();
+    Double getLongitude();
+    Long getUses();
+}
@@ -0,0 +1,17 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class MapClusterDTO {
+    private double latitude;
+    private double longitude;
+    private int count;
+    private List<Long> sampleEntryIds;
+}
@@ -0,0 +1,9 @@
+package com.project.travel.dto;
+
+/**
+ * Id and stored file of a media attachment, used when deleting media
+ */
+public interface MediaFileView {
+    Long getId();
+    String getUrl();
+}
@@ -0,0 +1,19 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class MockDataReportDTO {
+    private long seed;
+    private List<Long> userIds;
+    private long journalsCreated;
+    private long entriesCreated;
+    private long mediaCreated;
+    private long durationMillis;
+}
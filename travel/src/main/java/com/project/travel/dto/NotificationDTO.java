@@ -0,0 +1,24 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pushed to a user when something of theirs changed; it only says what, and
+ * the client reloads it (cheaply, with the ETags) when it needs the data
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class NotificationDTO {
+    // An EntryEventType name or POSTCARD_RECEIVED
+    private String type;
+    private Long journalId;
+    private Long entryId;
+    private Long postcardId;
+    private UserSummaryDTO sender;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,16 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class PostcardPageDTO {
+    private List<PostcardSummaryDTO> postcards;
+    // Passed back as cursor for the next page; null on the last page
+    private String nextCursor;
+}
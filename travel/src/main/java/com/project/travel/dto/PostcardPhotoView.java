@@ -0,0 +1,9 @@
+package com.project.travel.dto;
+
+/**
+ * One photo URL of a postcard, loaded for a whole page at once
+ */
+public interface PostcardPhotoView {
+    Long getPostcardId();
+    String getUrl();
+}
@@ -0,0 +1,20 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class PostcardSummaryDTO {
+    private Long id;
+    private String description;
+    private LocalDateTime sentAt;
+    private UserSummaryDTO sender;
+    private UserSummaryDTO receiver;
+    private List<String> photoUrls;
+}
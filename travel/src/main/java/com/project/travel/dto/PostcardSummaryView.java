@@ -0,0 +1,19 @@
+package com.project.travel.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Postcard columns with the names of sender and receiver, read by one join
+ * for an inbox or outbox page
+ */
+public interface PostcardSummaryView {
+    Long getId();
+    String getDescription();
+    LocalDateTime getSentAt();
+    Long getSenderId();
+    String getSenderName();
+    String getSenderUsername();
+    Long getReceiverId();
+    String getReceiverName();
+    String getReceiverUsername();
+}
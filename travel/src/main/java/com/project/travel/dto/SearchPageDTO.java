@@ -0,0 +1,18 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SearchPageDTO {
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    private List<SearchResultDTO> results;
+}
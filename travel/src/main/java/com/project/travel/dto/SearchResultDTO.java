@@ -0,0 +1,19 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SearchResultDTO {
+    private String type;
+    private Long id;
+    private Long journalId;
+    private String title;
+    private float score;
+    private Map<String, String> highlights;
+}
@@ -0,0 +1,14 @@
+package com.project.travel.dto;
+
+import lombok.*;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class UserSummaryDTO {
+    private Long id;
+    private String name;
+    private String username;
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Builder
 @AllArgsConstructor
@@ -16,9 +17,13 @@ import java.time.LocalDateTime;
 public class EntryEvent {
     private EntryEventType eventType;
     private Entry entry;
+    // Set instead of entry for batched events
+    private List<Entry> entries;
     private Long userId;
     private LocalDateTime timestamp;
     private String additionalInfo;
+    // Location of an updated entry before the update
+    private String previousLocationName;
 
     public static EntryEvent created(Entry entry, Long userId) {
         return EntryEvent.builder()
@@ -29,12 +34,22 @@ public class EntryEvent {
                 .build();
     }
 
-    public static EntryEvent updated(Entry entry, Long userId) {
+    public static EntryEvent bulkCreated(List<Entry> entries, Long userId) {
+        return EntryEvent.builder()
+                .eventType(EntryEventType.ENTRIES_CREATED)
+                .entries(entries)
+                .userId(userId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static EntryEvent updated(Entry entry, Long userId, String previousLocationName) {
         return EntryEvent.builder()
                 .eventType(EntryEventType.ENTRY_UPDATED)
                 .entry(entry)
                 .userId(userId)
                 .timestamp(LocalDateTime.now())
+                .previousLocationName(previousLocationName)
                 .build();
     }
 
@@ -0,0 +1,99 @@
+package com.project.travel.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.travel.config.JwtProperties;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.security.AuthenticatedUser;
+import com.project.travel.security.TokenVerifier;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying "Authorization: Bearer <token>" and makes
+ * the caller available through AuthenticatedUser.from(request). Invalid or
+ * expired tokens get a 401; requests without a token pass as anonymous
+ * unless jwt.required is set.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String MDC_KEY = "userId";
+    // Reachable without a token even when jwt.required is set; WebSocket sessions send theirs in the STOMP CONNECT frame
+    private static final List<String> PUBLIC_PATHS = List.of("/actuator", "/swagger-ui", "/v3/api-docs", "/uploads/", "/socket");
+
+    private final TokenVerifier tokenVerifier;
+    private final JwtProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            if (properties.isRequired() && !isPublic(request)) {
+                reject(response, "Missing bearer token");
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AuthenticatedUser user;
+        try {
+            user = tokenVerifier.verify(header.substring(BEARER_PREFIX.length()).trim());
+        } catch (JwtException | IllegalArgumentException e) {
+            reject(response, e.getMessage());
+            return;
+        }
+
+        request.setAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE, user);
+        MDC.put(MDC_KEY, String.valueOf(user.id()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight requests never carry credentials
+        return "OPTIONS".equals(request.getMethod());
+    }
+
+    private boolean isPublic(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
+    }
+
+    private void reject(HttpServletResponse response, String error) throws IOException {
+        ApiExceptionResponse body = ApiExceptionResponse.builder()
+                .message("Authentication failed")
+                .status(HttpStatus.UNAUTHORIZED)
+                .errors(Collections.singletonList(error))
+                .build();
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.travel.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Counts the bytes of file uploads (multipart requests) and of downloads
+ * (uploaded files and XML exports) in the travel.transfer.bytes counter,
+ * tagged with the direction and the area of the application.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC = "travel.transfer.bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String area = area(path);
+
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.startsWith("multipart/") && request.getContentLengthLong() > 0) {
+            count("upload", area, request.getContentLengthLong());
+        }
+
+        if (!path.startsWith("/uploads/") && !path.startsWith("/export/")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+            // The container only flushes its own writer, not the one encoding into the counting stream
+            countingResponse.flushWriter();
+        } finally {
+            count("download", area, countingResponse.bytesWritten);
+        }
+    }
+
+    private void count(String direction, String area, long bytes) {
+        if (bytes > 0) {
+            meterRegistry.counter(METRIC, "direction", direction, "area", area).increment(bytes);
+        }
+    }
+
+    // First path segment, two for uploaded files (uploads/media, uploads/journal-covers)
+    private String area(String path) {
+        String[] segments = path.split("/", 4);
+        if (segments.length < 2 || segments[1].isEmpty()) {
+            return "root";
+        }
+        return "uploads".equals(segments[1]) && segments.length > 2 ? "uploads/" + segments[2] : segments[1];
+    }
+
+    // Inner class counting what goes through the response body
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytesWritten++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytesWritten += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        // The writer encodes into the counting stream, so characters are counted as the bytes they become
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                // Fixes the charset in the Content-Type as the container's own writer would
+                setCharacterEncoding(getCharacterEncoding());
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+    }
+}
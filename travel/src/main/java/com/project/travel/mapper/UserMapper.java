@@ -1,7 +1,7 @@
 package com.project.travel.mapper;
 
 import com.project.travel.dto.UserCreationDTO;
-import com.project.travel.model.User;
+import com.project.user.model.User;
 
 public class UserMapper {
 
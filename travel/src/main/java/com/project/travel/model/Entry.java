@@ -1,5 +1,6 @@
 package com.project.travel.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,8 @@ import java.util.List;
 @Entity
 public class Entry {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entry_seq")
+    @SequenceGenerator(name = "entry_seq", sequenceName = "entry_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -23,9 +25,22 @@ public class Entry {
     private String latitude;
     private String createdAt;
 
+    // Numeric copies of latitude and longitude, kept in step on every write so map queries can use an index
+    @JsonIgnore
+    @Column(name = "latitude_value")
+    private Double latitudeValue;
+
+    @JsonIgnore
+    @Column(name = "longitude_value")
+    private Double longitudeValue;
+
     @Column(name = "journal_id")
     private Long journalId;
 
+    // Optimistic locking; partial updates increment it in the UPDATE itself
+    @Version
+    private Long version;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
             name = "entry_media_attachments",
@@ -33,4 +48,28 @@ public class Entry {
             inverseJoinColumns = @JoinColumn(name = "media_attachments_id")
     )
     private List<Media> mediaAttachments;
+
+    @PrePersist
+    @PreUpdate
+    void parseCoordinates() {
+        latitudeValue = parseCoordinate(latitude);
+        longitudeValue = parseCoordinate(longitude);
+    }
+
+    /**
+     * Parse a coordinate as stored on the entry
+     * @param value Coordinate text
+     * @return The coordinate, or null when the text is not a finite number
+     */
+    public static Double parseCoordinate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            double coordinate = Double.parseDouble(value.trim());
+            return Double.isFinite(coordinate) ? coordinate : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -15,7 +15,8 @@ import java.util.List;
 @Entity
 public class Journal {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_seq")
+    @SequenceGenerator(name = "journal_seq", sequenceName = "journal_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title cannot be blank")
@@ -31,4 +32,8 @@ public class Journal {
 
     @Column(name = "user_id")
     private Long userId;
+
+    // Optimistic locking; partial updates increment it in the UPDATE itself
+    @Version
+    private Long version;
 }
@@ -12,7 +12,8 @@ import lombok.*;
 @Entity
 public class Media {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "media_seq")
+    @SequenceGenerator(name = "media_seq", sequenceName = "media_seq", allocationSize = 50)
     private Long id;
 
     private String url;
@@ -1,8 +1,10 @@
 package com.project.travel.model;
 
+import com.project.user.model.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
@@ -11,9 +13,15 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
+// Inbox and outbox pages are read newest first by these keys
+@Table(indexes = {
+        @Index(name = "idx_postcard_receiver_sent", columnList = "receiver_id, sent_at, id"),
+        @Index(name = "idx_postcard_sender_sent", columnList = "sender_id, sent_at, id")
+})
 public class Postcard {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "postcard_seq")
+    @SequenceGenerator(name = "postcard_seq", sequenceName = "postcard_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -24,6 +32,9 @@ public class Postcard {
 
     private String description;
 
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+
     @ElementCollection
     private List<String> photoUrls;
 
@@ -1,23 +1,26 @@
 package com.project.travel.observer;
 
 import com.project.travel.event.EntryEvent;
-import com.project.travel.model.User;
-import com.project.travel.service.UserService;
+import com.project.user.model.User;
+import com.project.user.service.IdentityService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EmailNotificationObserver implements EntryObserver {
 
-    private final UserService userService;
+    // Cached lookup: one per event, so it should not go to the database each time
+    private final IdentityService identityService;
 
     @Override
     public void onEntryEvent(EntryEvent event) {
         try {
-            Optional<User> userOpt = userService.getUserById(event.getUserId());
+            Optional<User> userOpt = identityService.findById(event.getUserId());
             if (userOpt.isEmpty()) {
                 return;
             }
@@ -26,21 +29,20 @@ public class EmailNotificationObserver implements EntryObserver {
             String emailContent = generateEmailContent(event, user);
 
 
-            System.out.println("=== EMAIL NOTIFICATION ===");
-            System.out.println("To: " + user.getEmail());
-            System.out.println("Subject: " + generateEmailSubject(event));
-            System.out.println("Content: " + emailContent);
-            System.out.println("========================");
+            log.info("Email notification to {}: {}", user.getEmail(), generateEmailSubject(event));
+            log.debug("Email content:\n{}", emailContent);
 
         } catch (Exception e) {
-            System.err.println("Failed to send email notification: " + e.getMessage());
+            log.error("Failed to send email notification", e);
         }
     }
 
-    private String generateEmailSubject(EntryEvent event) {
+    String generateEmailSubject(EntryEvent event) {
         switch (event.getEventType()) {
             case ENTRY_CREATED:
                 return "New Journal Entry Created";
+            case ENTRIES_CREATED:
+                return "New Journal Entries Created";
             case ENTRY_UPDATED:
                 return "Journal Entry Updated";
             case ENTRY_DELETED:
@@ -52,7 +54,7 @@ public class EmailNotificationObserver implements EntryObserver {
         }
     }
 
-    private String generateEmailContent(EntryEvent event, User user) {
+    String generateEmailContent(EntryEvent event, User user) {
         StringBuilder content = new StringBuilder();
         content.append("Hello ").append(user.getName() != null ? user.getName() : user.getUsername()).append(",\n\n");
 
@@ -67,6 +69,12 @@ public class EmailNotificationObserver implements EntryObserver {
                 content.append(".\n\n");
                 break;
 
+            case ENTRIES_CREATED:
+                content.append("You've created ")
+                        .append(event.getEntries().size())
+                        .append(" new journal entries.\n\n");
+                break;
+
             case ENTRY_UPDATED:
                 content.append("Your journal entry \"")
                         .append(event.getEntry().getTitle())
@@ -0,0 +1,42 @@
+package com.project.travel.observer;
+
+import com.project.travel.constants.EntryEventType;
+import com.project.travel.event.EntryEvent;
+import com.project.travel.model.Entry;
+import com.project.travel.service.LocationAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class LocationIndexObserver implements EntryObserver {
+
+    private final LocationAutocompleteService locationAutocompleteService;
+
+    @Override
+    public void onEntryEvent(EntryEvent event) {
+        if (event.getEventType() == EntryEventType.ENTRIES_CREATED) {
+            event.getEntries().forEach(entry -> recordLocation(entry, true));
+        } else if (event.getEventType() == EntryEventType.ENTRY_CREATED) {
+            recordLocation(event.getEntry(), true);
+        } else if (event.getEventType() == EntryEventType.ENTRY_UPDATED) {
+            // Other edits keep the location's rank and only refresh its coordinates
+            Entry entry = event.getEntry();
+            recordLocation(entry, !Objects.equals(entry.getLocationName(), event.getPreviousLocationName()));
+        }
+    }
+
+    private void recordLocation(Entry entry, boolean newUse) {
+        if (entry.getLocationName() != null) {
+            locationAutocompleteService.recordLocation(entry.getLocationName(), entry.getLatitude(),
+                    entry.getLongitude(), newUse);
+        }
+    }
+
+    @Override
+    public String getObserverName() {
+        return "LocationIndexObserver";
+    }
+}
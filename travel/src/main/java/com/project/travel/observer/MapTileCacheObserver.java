@@ -0,0 +1,23 @@
+package com.project.travel.observer;
+
+import com.project.travel.event.EntryEvent;
+import com.project.travel.service.MapClusterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MapTileCacheObserver implements EntryObserver {
+
+    private final MapClusterService mapClusterService;
+
+    @Override
+    public void onEntryEvent(EntryEvent event) {
+        mapClusterService.invalidateTiles(event.getUserId());
+    }
+
+    @Override
+    public String getObserverName() {
+        return "MapTileCacheObserver";
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.travel.observer;
+
+import com.project.travel.event.EntryEvent;
+import com.project.travel.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationObserver implements EntryObserver {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public void onEntryEvent(EntryEvent event) {
+        notificationService.entryChanged(event);
+    }
+
+    @Override
+    public String getObserverName() {
+        return "NotificationObserver";
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.travel.observer;
+
+import com.project.travel.constants.EntryEventType;
+import com.project.travel.event.EntryEvent;
+import com.project.travel.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexObserver implements EntryObserver {
+
+    private final SearchService searchService;
+
+    @Override
+    public void onEntryEvent(EntryEvent event) {
+        if (event.getEventType() == EntryEventType.ENTRY_DELETED) {
+            searchService.removeEntry(event.getEntry().getId());
+        } else if (event.getEventType() == EntryEventType.ENTRIES_CREATED) {
+            searchService.indexEntries(event.getEntries(), event.getUserId());
+        } else {
+            searchService.indexEntry(event.getEntry(), event.getUserId());
+        }
+    }
+
+    @Override
+    public String getObserverName() {
+        return "SearchIndexObserver";
+    }
+}
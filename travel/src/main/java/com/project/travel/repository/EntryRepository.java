@@ -1,14 +1,77 @@
 package com.project.travel.repository;
 
+import com.project.travel.dto.EntryCoordinatesView;
+import com.project.travel.dto.EntrySearchView;
+import com.project.travel.dto.LocationUsageView;
 import com.project.travel.model.Entry;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EntryRepository extends JpaRepository<Entry, Long> {
     List<Entry> findByJournalId(Long journalId);
-}
\ No newline at end of file
+
+    @Query("SELECT e.journalId FROM Entry e WHERE e.id = :id")
+    Optional<Long> findJournalIdById(@Param("id") Long id);
+
+    @Query("SELECT e.id FROM Entry e WHERE e.journalId = :journalId ORDER BY e.id")
+    List<Long> findIdsByJournalId(@Param("journalId") Long journalId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM entry_media_attachments WHERE entry_id IN (:entryIds)", nativeQuery = true)
+    int deleteMediaAttachmentRows(@Param("entryIds") List<Long> entryIds);
+
+    @Query("SELECT e.id AS id, e.latitudeValue AS latitude, e.longitudeValue AS longitude FROM Entry e " +
+            "WHERE e.latitudeValue BETWEEN :minLat AND :maxLat " +
+            "AND e.longitudeValue BETWEEN :minLng AND :maxLng")
+    List<EntryCoordinatesView> findCoordinatesInBounds(@Param("minLat") double minLat,
+                                                       @Param("maxLat") double maxLat,
+                                                       @Param("minLng") double minLng,
+                                                       @Param("maxLng") double maxLng);
+
+    @Query("SELECT e.id AS id, e.latitudeValue AS latitude, e.longitudeValue AS longitude FROM Entry e " +
+            "WHERE e.journalId IN (SELECT j.id FROM Journal j WHERE j.userId = :userId) " +
+            "AND e.latitudeValue BETWEEN :minLat AND :maxLat " +
+            "AND e.longitudeValue BETWEEN :minLng AND :maxLng")
+    List<EntryCoordinatesView> findCoordinatesInBoundsForUser(@Param("userId") Long userId,
+                                                              @Param("minLat") double minLat,
+                                                              @Param("maxLat") double maxLat,
+                                                              @Param("minLng") double minLng,
+                                                              @Param("maxLng") double maxLng);
+
+    @Query("SELECT e.id AS id, e.journalId AS journalId, e.title AS title, e.content AS content, " +
+            "e.locationName AS locationName FROM Entry e WHERE e.id > :afterId ORDER BY e.id")
+    List<EntrySearchView> findSearchViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e.id AS id, e.journalId AS journalId, e.title AS title, e.content AS content, " +
+            "e.locationName AS locationName FROM Entry e WHERE e.journalId IN :journalIds AND e.id > :afterId ORDER BY e.id")
+    List<EntrySearchView> findSearchViewsByJournalIdsAfter(@Param("journalIds") Collection<Long> journalIds,
+                                                           @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e.locationName FROM Entry e WHERE e.id = :id")
+    Optional<String> findLocationNameById(@Param("id") Long id);
+
+    // Both coordinates come from the same entry: the latest one of the name with numeric coordinates
+    @Query("SELECT u.name AS locationName, e.latitudeValue AS latitude, e.longitudeValue AS longitude, u.uses AS uses " +
+            "FROM (SELECT l.locationName AS name, COUNT(l) AS uses, MAX(CASE WHEN l.latitudeValue IS NOT NULL " +
+            "AND l.longitudeValue IS NOT NULL THEN l.id END) AS lastId FROM Entry l " +
+            "WHERE l.locationName IS NOT NULL GROUP BY l.locationName) u " +
+            "LEFT JOIN Entry e ON e.id = u.lastId")
+    List<LocationUsageView> findLocationUsages();
+
+    @Query("SELECT u.name AS locationName, e.latitudeValue AS latitude, e.longitudeValue AS longitude, u.uses AS uses " +
+            "FROM (SELECT l.locationName AS name, COUNT(l) AS uses, MAX(CASE WHEN l.latitudeValue IS NOT NULL " +
+            "AND l.longitudeValue IS NOT NULL THEN l.id END) AS lastId FROM Entry l " +
+            "WHERE l.locationName IS NOT NULL AND l.journalId IN :journalIds GROUP BY l.locationName) u " +
+            "LEFT JOIN Entry e ON e.id = u.lastId")
+    List<LocationUsageView> findLocationUsagesByJournalIds(@Param("journalIds") Collection<Long> journalIds);
+}
@@ -1,11 +1,20 @@
 package com.project.travel.repository;
 
+import com.project.travel.dto.MediaFileView;
 import com.project.travel.model.Media;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface MediaRepository extends JpaRepository<Media, Long> {
+    // Media shared with entries outside the given ones is kept
+    @Query(value = "SELECT DISTINCT m.id AS id, m.url AS url FROM media m " +
+            "JOIN entry_media_attachments a ON a.media_attachments_id = m.id " +
+            "WHERE a.entry_id IN (:entryIds) AND NOT EXISTS (SELECT 1 FROM entry_media_attachments o " +
+            "WHERE o.media_attachments_id = m.id AND o.entry_id NOT IN (:entryIds))", nativeQuery = true)
+    List<MediaFileView> findMediaOnlyAttachedTo(@Param("entryIds") List<Long> entryIds);
 }
\ No newline at end of file
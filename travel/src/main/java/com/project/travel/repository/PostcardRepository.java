@@ -1,12 +1,43 @@
 package com.project.travel.repository;
 
+import com.project.travel.dto.PostcardPhotoView;
+import com.project.travel.dto.PostcardSummaryView;
 import com.project.travel.model.Postcard;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostcardRepository extends JpaRepository<Postcard, Long> {
+    String SUMMARY = "SELECT p.id AS id, p.description AS description, p.sentAt AS sentAt, " +
+            "s.id AS senderId, s.name AS senderName, s.username AS senderUsername, " +
+            "r.id AS receiverId, r.name AS receiverName, r.username AS receiverUsername " +
+            "FROM Postcard p JOIN p.sender s JOIN p.receiver r ";
+    String BEFORE_CURSOR = "AND (p.sentAt < :sentAt OR (p.sentAt = :sentAt AND p.id < :id)) ";
+    String NEWEST_FIRST = "ORDER BY p.sentAt DESC, p.id DESC";
+
     List<Postcard> findBySenderId(Long senderId);
 
     List<Postcard> findByReceiverId(Long receiverId);
+
+    @Query(SUMMARY + "WHERE p.receiver.id = :userId " + NEWEST_FIRST)
+    List<PostcardSummaryView> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE p.receiver.id = :userId " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<PostcardSummaryView> findInboxBefore(@Param("userId") Long userId, @Param("sentAt") LocalDateTime sentAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE p.sender.id = :userId " + NEWEST_FIRST)
+    List<PostcardSummaryView> findOutbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE p.sender.id = :userId " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<PostcardSummaryView> findOutboxBefore(@Param("userId") Long userId, @Param("sentAt") LocalDateTime sentAt,
+                                               @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p.id AS postcardId, u AS url FROM Postcard p JOIN p.photoUrls u WHERE p.id IN :ids")
+    List<PostcardPhotoView> findPhotoUrls(@Param("ids") Collection<Long> ids);
 }
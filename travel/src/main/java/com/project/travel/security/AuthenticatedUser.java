@@ -0,0 +1,54 @@
+package com.project.travel.security;
+
+import com.project.travel.exceptions.ApiExceptionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Identity of the caller, taken from a verified access token. As a Principal
+ * it is named by the user ID, which addresses the user's WebSocket queues.
+ */
+public record AuthenticatedUser(Long id, String username, Instant expiresAt) implements Principal {
+
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    /**
+     * @return The user authenticated by JwtAuthenticationFilter, empty for anonymous requests
+     */
+    public static Optional<AuthenticatedUser> from(HttpServletRequest request) {
+        return Optional.ofNullable((AuthenticatedUser) request.getAttribute(REQUEST_ATTRIBUTE));
+    }
+
+    /**
+     * Get the user whose data a per-user read returns. An authenticated caller
+     * only reads their own data; anonymous requests, let through while
+     * jwt.required is off, keep the user ID they send
+     * @param requestedUserId User ID sent by the client, null for the caller
+     * @return The caller's ID, or the requested one for anonymous requests
+     * @throws ApiExceptionResponse 403 when the requested ID is another user's
+     */
+    public static Long scope(HttpServletRequest request, Long requestedUserId) throws ApiExceptionResponse {
+        Optional<AuthenticatedUser> user = from(request);
+        if (user.isEmpty()) {
+            return requestedUserId;
+        }
+        if (requestedUserId != null && !requestedUserId.equals(user.get().id())) {
+            throw ApiExceptionResponse.builder()
+                    .message("Access denied")
+                    .status(HttpStatus.FORBIDDEN)
+                    .errors(Collections.singletonList("Users can only read their own data"))
+                    .build();
+        }
+        return user.get().id();
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(id);
+    }
+}
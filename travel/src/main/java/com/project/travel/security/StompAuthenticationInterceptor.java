@@ -0,0 +1,64 @@
+package com.project.travel.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Checks the access token of a STOMP connection. Browsers cannot set headers
+ * on the WebSocket handshake, so the token comes in the Authorization header
+ * of the CONNECT frame and is verified with the same TokenVerifier as the
+ * REST requests. Clients may only subscribe to their own user destinations
+ * and cannot SEND at all: every destination belongs to the broker, so a sent
+ * frame would reach other users' queues as if it were a notification.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final TokenVerifier tokenVerifier;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String header = accessor.getFirstNativeHeader("Authorization");
+            if (header == null || !header.startsWith(BEARER_PREFIX)) {
+                throw new MessageDeliveryException("Missing bearer token");
+            }
+            try {
+                accessor.setUser(tokenVerifier.verify(header.substring(BEARER_PREFIX.length()).trim()));
+            } catch (JwtException | IllegalArgumentException e) {
+                throw new MessageDeliveryException(e.getMessage());
+            }
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException("Clients cannot send messages");
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            // The connection outlives the token, so a new subscription needs one that is still valid
+            if (!(accessor.getUser() instanceof AuthenticatedUser user) || user.expiresAt().isBefore(Instant.now())) {
+                throw new MessageDeliveryException("Access token expired, connect again");
+            }
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith(USER_DESTINATION_PREFIX)) {
+                throw new MessageDeliveryException("Only /user/ destinations can be subscribed to");
+            }
+        }
+        return message;
+    }
+}
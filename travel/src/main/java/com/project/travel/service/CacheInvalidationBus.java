@@ -0,0 +1,25 @@
+package com.project.travel.service;
+
+/**
+ * Carries cache invalidations between the instances of the application,
+ * so an instance never keeps serving data another instance has changed
+ */
+public interface CacheInvalidationBus {
+    /**
+     * Tell the other instances to drop a cached value
+     * @param cacheName Name of the cache
+     * @param key Key to drop, or null to drop the whole cache
+     */
+    void publish(String cacheName, Object key);
+
+    /**
+     * Register a listener for invalidations published by other instances
+     * @param listener Listener to notify
+     */
+    void subscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onInvalidation(String cacheName, Object key);
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.travel.service;
 
+import com.project.travel.dto.EntryPatchDTO;
 import com.project.travel.event.EntryEvent;
 import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Entry;
@@ -43,12 +44,31 @@ public interface EntryService {
     Long addEntry(Entry entry) throws ApiExceptionResponse;
 
     /**
-     * Update an existing entry
+     * Create several entries in a single transaction. All entries are
+     * validated before anything is written, so either all or none are saved.
+     * @param entries Entry objects to save
+     * @return Saved entries, in request order
+     */
+    List<Entry> addEntries(List<Entry> entries) throws ApiExceptionResponse;
+
+    /**
+     * Update an existing entry; null fields are left as they are
      * @param entry Updated entry data
      * @return Updated entry
      */
     Entry updateEntry(Entry entry) throws ApiExceptionResponse;
 
+    /**
+     * Change the given fields of an entry with a single UPDATE, without
+     * reading it first. It is reloaded once afterwards for the observers.
+     * @param id ID of the entry
+     * @param patch Fields to change and optionally the version they were made against
+     * @return Updated entry
+     * @throws ApiExceptionResponse 400 for an empty title, an unknown journal or no changes,
+     * 404 if it does not exist, 409 if its version differs
+     */
+    Entry patchEntry(Long id, EntryPatchDTO patch) throws ApiExceptionResponse;
+
     /**
      * Delete an entry by ID
      * @param id ID of entry to delete
@@ -0,0 +1,24 @@
+package com.project.travel.service;
+
+import com.project.travel.dto.JournalDeletionDTO;
+
+import java.util.Optional;
+
+public interface JournalDeletionService {
+    /**
+     * Start deleting a journal in the background, together with its entries,
+     * media and files. Calling it again while the deletion runs returns the
+     * running deletion; calling it after a failure resumes where it stopped.
+     * @param journalId ID of the journal to delete
+     * @return Progress of the deletion
+     * @throws java.util.NoSuchElementException If the journal does not exist
+     */
+    JournalDeletionDTO requestDeletion(Long journalId);
+
+    /**
+     * Get the progress of a journal deletion
+     * @param journalId ID of the journal
+     * @return Optional containing the progress if a deletion was requested recently
+     */
+    Optional<JournalDeletionDTO> getProgress(Long journalId);
+}
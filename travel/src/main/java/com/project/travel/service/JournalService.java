@@ -1,5 +1,8 @@
 package com.project.travel.service;
 
+import com.project.travel.dto.JournalDeletionDTO;
+import com.project.travel.dto.JournalPatchDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Journal;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,17 +32,31 @@ public interface JournalService {
     Optional<Journal> getJournalById(Long id);
 
     /**
-     * Update an existing journal
+     * Update an existing journal; null fields are left as they are
      * @param journal Updated journal data
      * @return Updated journal
+     * @throws ApiExceptionResponse 404 if it does not exist, 409 if its version differs
      */
-    Journal updateJournal(Journal journal);
+    Journal updateJournal(Journal journal) throws ApiExceptionResponse;
 
     /**
-     * Delete a journal by ID
+     * Change the given fields of a journal with a single UPDATE, without
+     * reading it first. It is reloaded once afterwards for the caches and
+     * the search index.
+     * @param id ID of the journal
+     * @param patch Fields to change and optionally the version they were made against
+     * @return Updated journal
+     * @throws ApiExceptionResponse 400 if nothing changes, 404 if it does not exist, 409 if its version differs
+     */
+    Journal patchJournal(Long id, JournalPatchDTO patch) throws ApiExceptionResponse;
+
+    /**
+     * Delete a journal by ID, with its entries, media and files. The
+     * deletion runs in the background, see JournalDeletionService.
      * @param id ID of journal to delete
+     * @return Progress of the deletion
      */
-    void deleteJournal(Long id);
+    JournalDeletionDTO deleteJournal(Long id);
 
     /**
      * Upload a cover image for a journal
@@ -0,0 +1,19 @@
+package com.project.travel.service;
+
+public interface ListVersionService {
+    /**
+     * Get the weak entity tag of a cached list; it changes whenever the list is
+     * evicted, so a matching tag is answered without reading the list
+     * @param cacheName Name of the cache holding the list
+     * @param key Key of the list, such as the journal ID
+     * @return Weak ETag of the current version of the list
+     */
+    String tag(String cacheName, Object key);
+
+    /**
+     * Record that a cached value was dropped, here or on another instance
+     * @param cacheName Name of the cache
+     * @param key Key that was dropped, or null when the whole cache was cleared
+     */
+    void invalidated(String cacheName, Object key);
+}
@@ -0,0 +1,42 @@
+package com.project.travel.service;
+
+import com.project.travel.dto.LocationSuggestionDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface LocationAutocompleteService {
+    /**
+     * Get ranked, typo-tolerant location suggestions for the text typed so far.
+     * The geocoder is only called when no known location matches
+     * @param query Text typed so far
+     * @param limit Maximum number of suggestions
+     * @return List of suggestions
+     */
+    List<LocationSuggestionDTO> suggest(String query, int limit);
+
+    /**
+     * Resolve a location to coordinates, preferring a location already known
+     * by exactly that name from entries and previous geocoding results
+     * @param location Location name to resolve
+     * @return Optional containing the match with coordinates
+     */
+    Optional<LocationSuggestionDTO> resolve(String location);
+
+    /**
+     * Record a location used by an entry
+     * @param name Location name
+     * @param latitude Latitude as stored on the entry
+     * @param longitude Longitude as stored on the entry
+     * @param newUse Whether the entry just started using the location, which raises its rank
+     */
+    void recordLocation(String name, String latitude, String longitude, boolean newUse);
+
+    /**
+     * Record the locations of all entries of new journals, read from the
+     * database; for bulk writes, called after they commit
+     * @param journalIds IDs of the journals
+     */
+    void recordJournalLocations(Collection<Long> journalIds);
+}
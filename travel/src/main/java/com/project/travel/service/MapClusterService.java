@@ -0,0 +1,27 @@
+package com.project.travel.service;
+
+import com.project.travel.dto.MapClusterDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+
+import java.util.List;
+
+public interface MapClusterService {
+    /**
+     * Get pre-aggregated entry clusters for the visible map area
+     * @param minLat South edge of the viewport
+     * @param minLng West edge of the viewport
+     * @param maxLat North edge of the viewport
+     * @param maxLng East edge of the viewport
+     * @param zoom Map zoom level
+     * @param userId Optional user ID to restrict clusters to that user's entries
+     * @return List of clusters intersecting the viewport
+     */
+    List<MapClusterDTO> getClusters(double minLat, double minLng, double maxLat, double maxLng,
+                                    int zoom, Long userId) throws ApiExceptionResponse;
+
+    /**
+     * Drop cached tiles affected by a change to a user's entries
+     * @param userId ID of the user whose entries changed
+     */
+    void invalidateTiles(Long userId);
+}
@@ -51,8 +51,9 @@ public interface MediaService {
     /**
      * Delete a media file from storage
      * @param url Path of the file to delete
+     * @return True if a file was deleted
      */
-    void deleteMediaFile(String url);
+    boolean deleteMediaFile(String url);
 
     /**
      * Determine the type of media based on its content type
@@ -1,13 +1,24 @@
 package com.project.travel.service;
 
-import com.project.travel.model.Journal;
-
-import java.util.List;
+import com.project.travel.dto.MockDataReportDTO;
 
 public interface MockDataService {
     /**
-     * Generate mock data for testing
+     * Generate mock data for testing, with the sizes and seed configured in
+     * the travel.mock-data.* properties
+     * @return Counts of generated objects
      */
-    void generateMockData();
+    MockDataReportDTO generateMockData();
 
-}
\ No newline at end of file
+    /**
+     * Generate users with journals, entries and media. The same seed and
+     * sizes always produce the same content; IDs come from the sequences.
+     * @param seed Seed of the random generator
+     * @param users Number of users to create
+     * @param journalsPerUser Number of journals of each user
+     * @param entriesPerJournal Number of entries of each journal
+     * @param mediaPerEntry Number of media attached to each entry
+     * @return Counts of generated objects and the IDs of the created users
+     */
+    MockDataReportDTO generateMockData(long seed, int users, int journalsPerUser, int entriesPerJournal, int mediaPerEntry);
+}
@@ -0,0 +1,18 @@
+package com.project.travel.service;
+
+import com.project.travel.event.EntryEvent;
+import com.project.travel.model.Postcard;
+
+public interface NotificationService {
+    /**
+     * Notify the owner of the entries about a change, once the transaction commits
+     * @param event Entry event raised by the entry service
+     */
+    void entryChanged(EntryEvent event);
+
+    /**
+     * Notify the receiver of a postcard, once the transaction commits
+     * @param postcard Postcard that was sent
+     */
+    void postcardReceived(Postcard postcard);
+}
@@ -1,5 +1,7 @@
 package com.project.travel.service;
 
+import com.project.travel.dto.PostcardPageDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Postcard;
 
 import java.util.List;
@@ -59,4 +61,22 @@ public interface PostcardService {
      * @return List of postcards received by the user
      */
     List<Postcard> getPostcardsReceivedByUser(Long receiverId);
-}
\ No newline at end of file
+
+    /**
+     * Get a page of the postcards received by a user, newest first
+     * @param receiverId ID of the receiver user
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param size Maximum number of postcards on the page
+     * @return Postcards with sender, receiver and photo URLs, and the cursor of the next page
+     */
+    PostcardPageDTO getInbox(Long receiverId, String cursor, int size) throws ApiExceptionResponse;
+
+    /**
+     * Get a page of the postcards sent by a user, newest first
+     * @param senderId ID of the sender user
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param size Maximum number of postcards on the page
+     * @return Postcards with sender, receiver and photo URLs, and the cursor of the next page
+     */
+    PostcardPageDTO getOutbox(Long senderId, String cursor, int size) throws ApiExceptionResponse;
+}
@@ -0,0 +1,67 @@
+package com.project.travel.service;
+
+import com.project.travel.dto.SearchPageDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Journal;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchService {
+    /**
+     * Full-text search over a user's entries and journals
+     * @param query Search terms
+     * @param userId ID of the user whose content is searched
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Ranked page of results with highlighted fragments
+     */
+    SearchPageDTO search(String query, Long userId, int page, int size) throws ApiExceptionResponse;
+
+    /**
+     * Add or replace an entry in the index
+     * @param entry Entry to index
+     * @param userId ID of the user owning the entry's journal
+     */
+    void indexEntry(Entry entry, Long userId);
+
+    /**
+     * Add or replace several entries in the index with a single commit
+     * @param entries Entries to index
+     * @param userId ID of the user owning the entries' journals
+     */
+    void indexEntries(List<Entry> entries, Long userId);
+
+    /**
+     * Remove an entry from the index
+     * @param entryId ID of the entry to remove
+     */
+    void removeEntry(Long entryId);
+
+    /**
+     * Add or replace a journal in the index
+     * @param journal Journal to index
+     */
+    void indexJournal(Journal journal);
+
+    /**
+     * Add or replace journals and all of their entries, read from the
+     * database in chunks; for bulk writes, called after they commit
+     * @param journalIds IDs of the journals to index
+     * @return Number of indexed documents
+     */
+    long indexJournals(Collection<Long> journalIds);
+
+    /**
+     * Remove a journal and all of its entries from the index
+     * @param journalId ID of the journal to remove
+     */
+    void removeJournal(Long journalId);
+
+    /**
+     * Rebuild the whole index from the database
+     * @return Number of indexed documents
+     */
+    long rebuildIndex() throws ApiExceptionResponse;
+}
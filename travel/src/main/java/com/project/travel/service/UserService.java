@@ -1,7 +1,9 @@
 package com.project.travel.service;
 
 import com.project.travel.dto.UserCreationDTO;
-import com.project.travel.model.User;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.user.model.User;
+import com.project.user.model.UserPatch;
 
 import java.util.List;
 import java.util.Optional;
@@ -37,32 +39,32 @@ public interface UserService {
     Optional<User> getUserByEmail(String email);
 
     /**
-     * Check if a username exists
-     * @param username Username to check
-     * @return True if the username exists, false otherwise
-     */
-    boolean existsByUsername(String username);
-
-    /**
-     * Check if an email exists
-     * @param email Email to check
-     * @return True if the email exists, false otherwise
-     */
-    boolean existsByEmail(String email);
-
-    /**
-     * Create a new user
+     * Create a new user with a single insert; a taken username or email is
+     * reported by the unique constraints
      * @param userDTO User creation data
      * @return The created user
+     * @throws ApiExceptionResponse With status 409 if the username or email is taken
      */
-    User createUser(UserCreationDTO userDTO);
+    User createUser(UserCreationDTO userDTO) throws ApiExceptionResponse;
 
     /**
-     * Update an existing user
+     * Update an existing user; null fields are left as they are and the
+     * password is only hashed when one is given
      * @param user Updated user data
      * @return The updated user
+     * @throws ApiExceptionResponse With status 409 if the new username or email is taken or the version differs
+     */
+    User updateUser(User user) throws ApiExceptionResponse;
+
+    /**
+     * Change the given fields of a user with a single UPDATE, without reading it first
+     * @param id ID of the user
+     * @param patch Fields to change and optionally the version they were made against
+     * @throws ApiExceptionResponse With status 400 if nothing changes, 409 if the new username
+     * or email is taken or the version differs
+     * @throws java.util.NoSuchElementException If there is no such user
      */
-    User updateUser(User user);
+    void patchUser(Long id, UserPatch patch) throws ApiExceptionResponse;
 
     /**
      * Delete a user by ID
@@ -0,0 +1,18 @@
+package com.project.travel.service;
+
+import com.project.travel.dto.ImportReportDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+
+import java.io.InputStream;
+
+public interface XMLImportService {
+    /**
+     * Import journals, entries and media from a CompleteUserData or
+     * JournalExport document, as produced by the XML export. Everything is
+     * created anew for the target user, in a single transaction.
+     * @param userId ID of the user receiving the imported journals
+     * @param xml Stream of the XML document
+     * @return Counts of imported objects
+     */
+    ImportReportDTO importUserData(Long userId, InputStream xml) throws ApiExceptionResponse;
+}
@@ -0,0 +1,94 @@
+package com.project.travel.service.implementation;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Persists large numbers of new entities in one transaction with bounded
+ * memory: the persistence context is flushed (as JDBC batches) and cleared
+ * every batch-size entities, so it never holds more than one chunk.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchInserter {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${travel.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Run a unit of work in a new transaction. Entities persisted through
+     * the given batch are detached after each flush, so the work must not
+     * modify them afterwards.
+     * @param work Work persisting the entities
+     * @param listener Called after every flush with the number of persisted entities so far
+     * @return Result of the work
+     */
+    public <T> T execute(BatchWork<T> work, FlushListener listener) throws Exception {
+        try {
+            return transactionTemplate.execute(status -> {
+                Batch batch = new Batch(listener);
+                try {
+                    T result = work.run(batch);
+                    batch.flush();
+                    return result;
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new WorkFailedException(e);
+                }
+            });
+        } catch (WorkFailedException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    public class Batch {
+        private final FlushListener listener;
+        private long persisted = 0;
+        private int pending = 0;
+
+        private Batch(FlushListener listener) {
+            this.listener = listener;
+        }
+
+        public void persist(Object entity) {
+            entityManager.persist(entity);
+            persisted++;
+            if (++pending >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            entityManager.flush();
+            entityManager.clear();
+            pending = 0;
+            if (listener != null) {
+                listener.onFlush(persisted);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface BatchWork<T> {
+        T run(Batch batch) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface FlushListener {
+        void onFlush(long persisted);
+    }
+
+    // Carries checked exceptions through TransactionTemplate, which rolls back on it
+    private static class WorkFailedException extends RuntimeException {
+        WorkFailedException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.project.travel.service.implementation;
 
+import com.project.travel.constants.CacheNames;
+import com.project.travel.dto.EntryPatchDTO;
 import com.project.travel.event.EntryEvent;
 import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Entry;
@@ -7,61 +9,96 @@ import com.project.travel.model.Journal;
 import com.project.travel.model.Media;
 import com.project.travel.observer.EmailNotificationObserver;
 import com.project.travel.observer.EntryObserver;
+import com.project.travel.observer.LocationIndexObserver;
+import com.project.travel.observer.MapTileCacheObserver;
+import com.project.travel.observer.NotificationObserver;
+import com.project.travel.observer.SearchIndexObserver;
 import com.project.travel.repository.EntryRepository;
+import com.project.travel.repository.JournalRepository;
 import com.project.travel.repository.MediaRepository;
 import com.project.travel.service.EntryService;
 import com.project.travel.service.JournalService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
+@Timed("travel.service")
 @RequiredArgsConstructor
 @Transactional
 public class EntryServiceImpl implements EntryService {
 
+    private static final int MAX_BULK_SIZE = 5000;
+
     private final EntryRepository entryRepository;
     private final MediaRepository mediaRepository;
+    private final JournalRepository journalRepository;
     private final JournalService journalService;
     private final EmailNotificationObserver emailObserver;
+    private final MapTileCacheObserver mapTileCacheObserver;
+    private final SearchIndexObserver searchIndexObserver;
+    private final LocationIndexObserver locationIndexObserver;
+    private final NotificationObserver notificationObserver;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final PartialUpdater partialUpdater;
 
     // Thread-safe list for observers
     private final List<EntryObserver> observers = new CopyOnWriteArrayList<>();
     @PostConstruct
     public void initObservers() {
-        System.out.println("INITIALIZING OBSERVERS...");
         addObserver(emailObserver);
-        System.out.println(" Observer setup complete!");
-        System.out.println("Total observers registered: " + observers.size());
+        addObserver(mapTileCacheObserver);
+        addObserver(searchIndexObserver);
+        addObserver(locationIndexObserver);
+        addObserver(notificationObserver);
+        log.info("Registered {} entry observers", observers.size());
     }
 
     @Override
     public void addObserver(EntryObserver observer) {
         observers.add(observer);
-        System.out.println("Added observer: " + observer.getObserverName());
+        log.debug("Added observer: {}", observer.getObserverName());
     }
 
     @Override
     public void removeObserver(EntryObserver observer) {
         observers.remove(observer);
-        System.out.println("Removed observer: " + observer.getObserverName());
+        log.debug("Removed observer: {}", observer.getObserverName());
     }
 
     @Override
     public void notifyObservers(EntryEvent event) {
         for (EntryObserver observer : observers) {
+            // Observers run on the request thread, so their time adds to the request latency
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
             try {
                 observer.onEntryEvent(event);
             } catch (Exception e) {
-                System.err.println("Error notifying observer " + observer.getObserverName() + ": " + e.getMessage());
+                outcome = "error";
+                log.error("Error notifying observer {}", observer.getObserverName(), e);
+            } finally {
+                sample.stop(meterRegistry.timer("travel.observer.dispatch",
+                        "observer", observer.getObserverName(),
+                        "event", String.valueOf(event.getEventType()),
+                        "outcome", outcome));
             }
         }
     }
@@ -85,6 +122,7 @@ public class EntryServiceImpl implements EntryService {
     }
 
     @Override
+    @Cacheable(value = CacheNames.JOURNAL_ENTRIES, key = "#journalId", sync = true)
     public List<Entry> getEntriesByJournalId(Long journalId) {
         return entryRepository.findByJournalId(journalId);
     }
@@ -109,6 +147,7 @@ public class EntryServiceImpl implements EntryService {
             }
 
             Entry savedEntry = entryRepository.save(entry);
+            evictJournalEntries(savedEntry.getJournalId());
 
             // Get user ID from journal
             Optional<Journal> journal = journalService.getJournalById(entry.getJournalId());
@@ -131,33 +170,169 @@ public class EntryServiceImpl implements EntryService {
         }
     }
 
+    @Override
+    @Transactional(rollbackFor = ApiExceptionResponse.class)
+    public List<Entry> addEntries(List<Entry> entries) throws ApiExceptionResponse {
+        if (entries == null || entries.isEmpty() || entries.size() > MAX_BULK_SIZE) {
+            throw ApiExceptionResponse.builder()
+                    .message("Entry validation failed")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .errors(Collections.singletonList("Between 1 and " + MAX_BULK_SIZE + " entries can be created at once"))
+                    .build();
+        }
+
+        // One query for all referenced journals instead of one lookup per entry
+        Set<Long> journalIds = entries.stream()
+                .map(Entry::getJournalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Journal> journals = journalRepository.findAllById(journalIds).stream()
+                .collect(Collectors.toMap(Journal::getId, Function.identity()));
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.getTitle() == null || entry.getTitle().trim().isEmpty()) {
+                errors.add("Entry " + i + ": title cannot be empty");
+            }
+            if (entry.getJournalId() == null) {
+                errors.add("Entry " + i + ": journal ID is required");
+            } else if (!journals.containsKey(entry.getJournalId())) {
+                errors.add("Entry " + i + ": no journal exists with id: " + entry.getJournalId());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw ApiExceptionResponse.builder()
+                    .message("Entry validation failed")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .errors(errors)
+                    .build();
+        }
+
+        try {
+            String createdAt = LocalDateTime.now().toString();
+            for (Entry entry : entries) {
+                entry.setId(null);
+                if (entry.getCreatedAt() == null) {
+                    entry.setCreatedAt(createdAt);
+                }
+            }
+
+            // Inserts are sent in JDBC batches, see hibernate.jdbc.batch_size
+            List<Entry> savedEntries = entryRepository.saveAll(entries);
+            entryRepository.flush();
+            journalIds.forEach(this::evictJournalEntries);
+
+            // One event per journal owner instead of one per entry
+            Map<Long, List<Entry>> entriesByUser = new LinkedHashMap<>();
+            for (Entry savedEntry : savedEntries) {
+                Long userId = journals.get(savedEntry.getJournalId()).getUserId();
+                entriesByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(savedEntry);
+            }
+            entriesByUser.forEach((userId, userEntries) -> notifyObservers(EntryEvent.bulkCreated(userEntries, userId)));
+
+            return savedEntries;
+        } catch (Exception e) {
+            throw ApiExceptionResponse.builder()
+                    .message("Failed to create entries")
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
+        }
+    }
+
     @Override
     public Entry updateEntry(Entry entry) throws ApiExceptionResponse {
+        return patchEntry(entry.getId(), EntryPatchDTO.builder()
+                .title(entry.getTitle())
+                .content(entry.getContent())
+                .locationName(entry.getLocationName())
+                .latitude(entry.getLatitude())
+                .longitude(entry.getLongitude())
+                .journalId(entry.getJournalId())
+                .version(entry.getVersion())
+                .build());
+    }
+
+    @Override
+    public Entry patchEntry(Long id, EntryPatchDTO patch) throws ApiExceptionResponse {
         try {
-            if (!entryRepository.existsById(entry.getId())) {
+            if (patch.getTitle() != null && patch.getTitle().trim().isEmpty()) {
                 throw ApiExceptionResponse.builder()
-                        .message("Entry not found")
-                        .status(HttpStatus.NOT_FOUND)
-                        .errors(Collections.singletonList("No entry exists with id: " + entry.getId()))
+                        .message("Entry validation failed")
+                        .status(HttpStatus.BAD_REQUEST)
+                        .errors(Collections.singletonList("Entry title cannot be empty"))
                         .build();
             }
 
-            if (entry.getTitle() == null || entry.getTitle().trim().isEmpty()) {
+            Long previousJournalId = null;
+            if (patch.getJournalId() != null) {
+                if (journalService.getJournalById(patch.getJournalId()).isEmpty()) {
+                    throw ApiExceptionResponse.builder()
+                            .message("Entry validation failed")
+                            .status(HttpStatus.BAD_REQUEST)
+                            .errors(Collections.singletonList("No journal exists with id: " + patch.getJournalId()))
+                            .build();
+                }
+                // A move changes the entry lists of both journals
+                previousJournalId = entryRepository.findJournalIdById(id).orElse(null);
+            }
+
+            // Read only when the patch sets a location, so the location index can tell whether it changed
+            String previousLocationName = patch.getLocationName() != null
+                    ? entryRepository.findLocationNameById(id).orElse(null)
+                    : null;
+
+            Map<String, Object> changes = new LinkedHashMap<>();
+            putIfPresent(changes, "title", patch.getTitle());
+            putIfPresent(changes, "content", patch.getContent());
+            putIfPresent(changes, "locationName", patch.getLocationName());
+            putIfPresent(changes, "latitude", patch.getLatitude());
+            putIfPresent(changes, "longitude", patch.getLongitude());
+            // The UPDATE skips the entity callbacks, so the numeric coordinates are set here
+            if (patch.getLatitude() != null) {
+                changes.put("latitudeValue", Entry.parseCoordinate(patch.getLatitude()));
+            }
+            if (patch.getLongitude() != null) {
+                changes.put("longitudeValue", Entry.parseCoordinate(patch.getLongitude()));
+            }
+            putIfPresent(changes, "journalId", patch.getJournalId());
+            if (changes.isEmpty()) {
                 throw ApiExceptionResponse.builder()
                         .message("Entry validation failed")
                         .status(HttpStatus.BAD_REQUEST)
-                        .errors(Collections.singletonList("Entry title cannot be empty"))
+                        .errors(Collections.singletonList("No fields to update"))
                         .build();
             }
 
-            Entry savedEntry = entryRepository.save(entry);
+            if (partialUpdater.update(Entry.class, id, patch.getVersion(), changes) == 0) {
+                // Only a failed update pays for finding out why
+                if (!entryRepository.existsById(id)) {
+                    throw ApiExceptionResponse.builder()
+                            .message("Entry not found")
+                            .status(HttpStatus.NOT_FOUND)
+                            .errors(Collections.singletonList("No entry exists with id: " + id))
+                            .build();
+                }
+                throw ApiExceptionResponse.builder()
+                        .message("Entry update failed")
+                        .status(HttpStatus.CONFLICT)
+                        .errors(Collections.singletonList("Entry " + id + " was changed since version " + patch.getVersion()))
+                        .build();
+            }
+
+            // The observers need the whole entry, so it is read once after the write
+            Entry savedEntry = entryRepository.findById(id).orElseThrow();
+            evictJournalEntries(previousJournalId);
+            evictJournalEntries(savedEntry.getJournalId());
 
             // Get user ID from journal
-            Optional<Journal> journal = journalService.getJournalById(entry.getJournalId());
+            Optional<Journal> journal = journalService.getJournalById(savedEntry.getJournalId());
             Long userId = journal.map(Journal::getUserId).orElse(null);
 
             // Notify observers
-            notifyObservers(EntryEvent.updated(savedEntry, userId));
+            notifyObservers(EntryEvent.updated(savedEntry, userId,
+                    patch.getLocationName() != null ? previousLocationName : savedEntry.getLocationName()));
 
             return savedEntry;
         } catch (Exception e) {
@@ -208,6 +383,7 @@ public class EntryServiceImpl implements EntryService {
 
                 // Save updated entry
                 entryRepository.save(entry);
+                evictJournalEntries(entry.getJournalId());
 
                 // Get user ID from journal
                 Optional<Journal> journal = journalService.getJournalById(entry.getJournalId());
@@ -249,6 +425,7 @@ public class EntryServiceImpl implements EntryService {
             Long userId = journal.map(Journal::getUserId).orElse(null);
 
             entryRepository.deleteById(id);
+            evictJournalEntries(entry.getJournalId());
 
             // Notify observers
             notifyObservers(EntryEvent.deleted(entry, userId));
@@ -265,4 +442,17 @@ public class EntryServiceImpl implements EntryService {
                     .build();
         }
     }
+
+    private static void putIfPresent(Map<String, Object> changes, String attribute, Object value) {
+        if (value != null) {
+            changes.put(attribute, value);
+        }
+    }
+
+    private void evictJournalEntries(Long journalId) {
+        Cache cache = cacheManager.getCache(CacheNames.JOURNAL_ENTRIES);
+        if (cache != null && journalId != null) {
+            cache.evict(journalId);
+        }
+    }
 }
\ No newline at end of file
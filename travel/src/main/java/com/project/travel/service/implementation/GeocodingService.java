@@ -1,16 +1,20 @@
 package com.project.travel.service.implementation;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
+@Timed("travel.service")
 public class GeocodingService {
 
     private final RestTemplate restTemplate;
@@ -18,7 +22,11 @@ public class GeocodingService {
     private final String NOMINATIM_BASE_URL = "https://nominatim.openstreetmap.org";
 
     public GeocodingService() {
-        this.restTemplate = new RestTemplate();
+        // Lookups run on request threads, so an unreachable Nominatim must fail fast
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(2000);
+        requestFactory.setReadTimeout(5000);
+        this.restTemplate = new RestTemplate(requestFactory);
     }
 
     /**
@@ -28,6 +36,27 @@ public class GeocodingService {
      * @return ResponseEntity with location data or appropriate error response
      */
     public ResponseEntity<?> geocodeLocation(String location) {
+        Optional<NominatimResponse> result = searchLocation(location);
+
+        if (result.isPresent()) {
+            Map<String, Object> locationData = new HashMap<>();
+            locationData.put("lat", Double.parseDouble(result.get().getLat()));
+            locationData.put("lng", Double.parseDouble(result.get().getLon()));
+            locationData.put("displayName", result.get().getDisplay_name());
+
+            return ResponseEntity.ok(locationData);
+        }
+
+        return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Queries Nominatim for the best match of a location name
+     *
+     * @param location The location name to geocode
+     * @return Optional containing the best match if one was found
+     */
+    public Optional<NominatimResponse> searchLocation(String location) {
         String url = NOMINATIM_BASE_URL + "/search?q=" +
                 location +
                 "&format=json&limit=1";
@@ -45,16 +74,10 @@ public class GeocodingService {
         NominatimResponse[] results = response.getBody();
 
         if (results != null && results.length > 0) {
-            NominatimResponse result = results[0];
-            Map<String, Object> locationData = new HashMap<>();
-            locationData.put("lat", Double.parseDouble(result.getLat()));
-            locationData.put("lng", Double.parseDouble(result.getLon()));
-            locationData.put("displayName", result.getDisplay_name());
-
-            return ResponseEntity.ok(locationData);
+            return Optional.of(results[0]);
         }
 
-        return ResponseEntity.notFound().build();
+        return Optional.empty();
     }
 
     /**
@@ -0,0 +1,243 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.constants.CacheNames;
+import com.project.travel.constants.DeletionStatus;
+import com.project.travel.dto.JournalDeletionDTO;
+import com.project.travel.dto.MediaFileView;
+import com.project.travel.model.Journal;
+import com.project.travel.repository.EntryRepository;
+import com.project.travel.repository.JournalRepository;
+import com.project.travel.repository.MediaRepository;
+import com.project.travel.service.JournalDeletionService;
+import com.project.travel.service.MapClusterService;
+import com.project.travel.service.MediaService;
+import com.project.travel.service.SearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes journals in short transactions of at most chunk-size entries, so a
+ * big journal never locks the entry table for long. Every chunk only deletes
+ * what still exists and the journal row goes last, so a failed or repeated
+ * deletion can simply be run again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalDeletionServiceImpl implements JournalDeletionService {
+
+    private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+
+    private final JournalRepository journalRepository;
+    private final EntryRepository entryRepository;
+    private final MediaRepository mediaRepository;
+    private final MediaService mediaService;
+    private final SearchService searchService;
+    private final MapClusterService mapClusterService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, DeletionJob> jobs = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @Value("${travel.journal-deletion.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${travel.journal-deletion.threads:1}")
+    private int threads;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "journal-deletion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized JournalDeletionDTO requestDeletion(Long journalId) {
+        pruneFinishedJobs();
+
+        DeletionJob running = jobs.get(journalId);
+        if (running != null && (running.status == DeletionStatus.PENDING || running.status == DeletionStatus.RUNNING)) {
+            return running.toDTO();
+        }
+
+        Journal journal = journalRepository.findById(journalId)
+                .orElseThrow(() -> new NoSuchElementException("Journal not found with ID: " + journalId));
+
+        DeletionJob job = new DeletionJob(journalId, journal.getUserId());
+        jobs.put(journalId, job);
+        // Keep the request ID on the worker's log lines
+        Map<String, String> logContext = MDC.getCopyOfContextMap();
+        executor.submit(() -> {
+            if (logContext != null) {
+                MDC.setContextMap(logContext);
+            }
+            try {
+                run(job);
+            } finally {
+                MDC.clear();
+            }
+        });
+        return job.toDTO();
+    }
+
+    @Override
+    public Optional<JournalDeletionDTO> getProgress(Long journalId) {
+        return Optional.ofNullable(jobs.get(journalId)).map(DeletionJob::toDTO);
+    }
+
+    private void run(DeletionJob job) {
+        job.status = DeletionStatus.RUNNING;
+        try {
+            boolean journalDeleted = false;
+            while (!journalDeleted) {
+                while (deleteNextChunk(job)) {
+                    evict(CacheNames.JOURNAL_ENTRIES, job.journalId);
+                }
+                // Entries added while the chunks ran send us back to the loop
+                journalDeleted = deleteJournalRow(job);
+            }
+
+            evict(CacheNames.JOURNALS, job.journalId);
+            evict(CacheNames.JOURNAL_ENTRIES, job.journalId);
+            evict(CacheNames.USER_JOURNALS, job.userId);
+            searchService.removeJournal(job.journalId);
+            mapClusterService.invalidateTiles(job.userId);
+
+            job.status = DeletionStatus.COMPLETED;
+            log.info("Deleted journal {} with {} entries and {} media", job.journalId,
+                    job.entriesDeleted.get(), job.mediaDeleted.get());
+        } catch (Exception e) {
+            log.error("Failed to delete journal {}", job.journalId, e);
+            job.error = e.getMessage();
+            job.status = DeletionStatus.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Deletes the next chunk of entries with their attachment rows and the
+     * media no other entry uses, then removes the media files once committed
+     * @return False when the journal has no entries left
+     */
+    private boolean deleteNextChunk(DeletionJob job) {
+        List<MediaFileView> deletedMedia = transactionTemplate.execute(status -> {
+            List<Long> entryIds = entryRepository.findIdsByJournalId(job.journalId, PageRequest.of(0, chunkSize));
+            if (entryIds.isEmpty()) {
+                return null;
+            }
+
+            List<MediaFileView> media = mediaRepository.findMediaOnlyAttachedTo(entryIds);
+            entryRepository.deleteMediaAttachmentRows(entryIds);
+            if (!media.isEmpty()) {
+                mediaRepository.deleteAllByIdInBatch(media.stream().map(MediaFileView::getId).toList());
+            }
+            entryRepository.deleteAllByIdInBatch(entryIds);
+
+            job.entriesDeleted.addAndGet(entryIds.size());
+            job.mediaDeleted.addAndGet(media.size());
+            return media;
+        });
+
+        if (deletedMedia == null) {
+            return false;
+        }
+        deletedMedia.forEach(media -> deleteFile(job, media.getUrl()));
+        return true;
+    }
+
+    private boolean deleteJournalRow(DeletionJob job) {
+        String coverImageURL = transactionTemplate.execute(status -> {
+            if (!entryRepository.findIdsByJournalId(job.journalId, PageRequest.of(0, 1)).isEmpty()) {
+                return null;
+            }
+
+            Optional<Journal> journal = journalRepository.findById(job.journalId);
+            journal.ifPresent(journalRepository::delete);
+            return journal.map(Journal::getCoverImageURL).orElse("");
+        });
+
+        if (coverImageURL == null) {
+            return false;
+        }
+        deleteFile(job, coverImageURL);
+        return true;
+    }
+
+    private void deleteFile(DeletionJob job, String url) {
+        if (url != null && !url.isEmpty() && mediaService.deleteMediaFile(url)) {
+            job.filesDeleted.incrementAndGet();
+        }
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(FINISHED_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    // Inner class tracking one deletion; updated by the worker, read by requests
+    private static class DeletionJob {
+        final Long journalId;
+        final Long userId;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong entriesDeleted = new AtomicLong();
+        final AtomicLong mediaDeleted = new AtomicLong();
+        final AtomicLong filesDeleted = new AtomicLong();
+        volatile DeletionStatus status = DeletionStatus.PENDING;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        DeletionJob(Long journalId, Long userId) {
+            this.journalId = journalId;
+            this.userId = userId;
+        }
+
+        JournalDeletionDTO toDTO() {
+            return JournalDeletionDTO.builder()
+                    .journalId(journalId)
+                    .status(status)
+                    .entriesDeleted(entriesDeleted.get())
+                    .mediaDeleted(mediaDeleted.get())
+                    .filesDeleted(filesDeleted.get())
+                    .startedAt(startedAt.toString())
+                    .finishedAt(finishedAt != null ? finishedAt.toString() : null)
+                    .error(error)
+                    .build();
+        }
+    }
+}
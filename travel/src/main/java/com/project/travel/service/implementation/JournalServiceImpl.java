@@ -1,33 +1,57 @@
 package com.project.travel.service.implementation;
 
+import com.project.travel.constants.CacheNames;
+import com.project.travel.dto.JournalDeletionDTO;
+import com.project.travel.dto.JournalPatchDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Journal;
 import com.project.travel.repository.EntryRepository;
 import com.project.travel.repository.JournalRepository;
+import com.project.travel.service.JournalDeletionService;
 import com.project.travel.service.JournalService;
+import com.project.travel.service.SearchService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
+@Timed("travel.service")
 @RequiredArgsConstructor
 @Transactional
 public class JournalServiceImpl implements JournalService {
 
     private final JournalRepository journalRepository;
     private final EntryRepository entryRepository;
+    private final SearchService searchService;
+    private final JournalDeletionService journalDeletionService;
+    private final CacheManager cacheManager;
+    private final PartialUpdater partialUpdater;
     private final String IMAGE_UPLOAD_DIR = "./uploads/journal-covers/";
 
     @Override
     public Journal addJournal(Journal journal) {
-        return journalRepository.save(journal);
+        Journal savedJournal = journalRepository.save(journal);
+        evict(CacheNames.USER_JOURNALS, savedJournal.getUserId());
+        searchService.indexJournal(savedJournal);
+        return savedJournal;
     }
 
     @Override
@@ -36,35 +60,61 @@ public class JournalServiceImpl implements JournalService {
     }
 
     @Override
+    @Cacheable(value = CacheNames.JOURNALS, key = "#id", unless = "#result == null")
     public Optional<Journal> getJournalById(Long id) {
         return journalRepository.findById(id);
     }
 
     @Override
-    public Journal updateJournal(Journal journal) {
-        return journalRepository.save(journal);
+    public Journal updateJournal(Journal journal) throws ApiExceptionResponse {
+        return patchJournal(journal.getId(), JournalPatchDTO.builder()
+                .title(journal.getTitle())
+                .description(journal.getDescription())
+                .coverImageURL(journal.getCoverImageURL())
+                .version(journal.getVersion())
+                .build());
     }
 
     @Override
-    public void deleteJournal(Long id) {
-        //delete entries
-        journalRepository.deleteEntriesByJournalId(id);
+    public Journal patchJournal(Long id, JournalPatchDTO patch) throws ApiExceptionResponse {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "title", patch.getTitle());
+        putIfPresent(changes, "description", patch.getDescription());
+        putIfPresent(changes, "coverImageURL", patch.getCoverImageURL());
+        if (changes.isEmpty()) {
+            throw ApiExceptionResponse.builder()
+                    .message("Journal update failed")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .errors(Collections.singletonList("No fields to update"))
+                    .build();
+        }
+
+        if (partialUpdater.update(Journal.class, id, patch.getVersion(), changes) == 0) {
+            throw notUpdated(id, patch.getVersion());
+        }
 
-        //delete the relationship in user_journals
-        journalRepository.deleteUserJournalRelations(id);
+        // The caches and the search index need the whole row, so it is read once after the write
+        Journal journal = journalRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Journal not found with ID: " + id));
+        evict(CacheNames.JOURNALS, id);
+        evict(CacheNames.USER_JOURNALS, journal.getUserId());
+        if (patch.getTitle() != null || patch.getDescription() != null) {
+            searchService.indexJournal(journal);
+        }
+        return journal;
+    }
 
-        //delete the journal
-        journalRepository.deleteById(id);
+    @Override
+    public JournalDeletionDTO deleteJournal(Long id) {
+        return journalDeletionService.requestDeletion(id);
     }
 
     @Override
     public String uploadCoverImage(Long journalId, MultipartFile file) throws IOException {
-        try {
-            // Log the upload attempt
-            System.out.println("Attempting to upload cover image for journal " + journalId);
-            System.out.println("Original filename: " + file.getOriginalFilename());
-            System.out.println("File size: " + file.getSize() + " bytes");
+        log.debug("Uploading cover image for journal {}: {} ({} bytes)",
+                journalId, file.getOriginalFilename(), file.getSize());
 
+        try {
             // Create a filename with UUID to avoid collisions
             String filename = UUID.randomUUID() + "_" + file.getOriginalFilename();
 
@@ -72,61 +122,67 @@ public class JournalServiceImpl implements JournalService {
             String uploadDir = new File("").getAbsolutePath() + "/uploads/journal-covers/";
             File directory = new File(uploadDir);
 
-            // Log directory information
-            System.out.println("Upload directory: " + uploadDir);
-            System.out.println("Directory exists: " + directory.exists());
-            System.out.println("Directory is writable: " + directory.canWrite());
-
             // Ensure the directory exists
-            if (!directory.exists()) {
-                boolean created = directory.mkdirs();
-                System.out.println("Directory created: " + created);
-                if (!created) {
-                    throw new IOException("Failed to create directory: " + uploadDir);
-                }
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Failed to create directory: " + uploadDir);
             }
 
             // Create the file path and URL
             File destinationFile = new File(directory, filename);
             String webAccessiblePath = "/uploads/journal-covers/" + filename;
 
-            // Log the file path
-            System.out.println("Destination file: " + destinationFile.getAbsolutePath());
-
             // Save the file to disk
-            try {
-                file.transferTo(destinationFile);
-                System.out.println("File successfully saved to: " + destinationFile.getAbsolutePath());
-            } catch (Exception e) {
-                System.err.println("Error saving file: " + e.getMessage());
-                e.printStackTrace();
-                throw e;
-            }
+            file.transferTo(destinationFile);
 
             // Update the journal with the web-accessible URL
-            try {
-                Journal journal = journalRepository.findById(journalId)
-                        .orElseThrow(() -> new NoSuchElementException("Journal not found with ID: " + journalId));
-
-                journal.setCoverImageURL(webAccessiblePath);
-                journalRepository.save(journal);
-                System.out.println("Journal " + journalId + " updated with cover image URL: " + webAccessiblePath);
-
-                return webAccessiblePath;
-            } catch (Exception e) {
-                System.err.println("Error updating journal: " + e.getMessage());
-                e.printStackTrace();
-                throw e;
-            }
-        } catch (Exception e) {
-            System.err.println("Error in uploadCoverImage: " + e.getMessage());
-            e.printStackTrace();
+            Journal journal = journalRepository.findById(journalId)
+                    .orElseThrow(() -> new NoSuchElementException("Journal not found with ID: " + journalId));
+
+            journal.setCoverImageURL(webAccessiblePath);
+            journalRepository.save(journal);
+            evict(CacheNames.JOURNALS, journalId);
+            evict(CacheNames.USER_JOURNALS, journal.getUserId());
+            log.info("Journal {} cover image saved to {}", journalId, destinationFile.getAbsolutePath());
+
+            return webAccessiblePath;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to upload cover image for journal {}", journalId, e);
             throw e;
         }
     }
 
     @Override
+    @Cacheable(value = CacheNames.USER_JOURNALS, key = "#userId", sync = true)
     public List<Journal> getJournalsByUserId(Long userId) {
         return journalRepository.findByUserId(userId);
     }
+
+    // Only a failed update pays for finding out why
+    private ApiExceptionResponse notUpdated(Long id, Long version) {
+        if (!journalRepository.existsById(id)) {
+            return ApiExceptionResponse.builder()
+                    .message("Journal not found")
+                    .status(HttpStatus.NOT_FOUND)
+                    .errors(Collections.singletonList("No journal exists with id: " + id))
+                    .build();
+        }
+        return ApiExceptionResponse.builder()
+                .message("Journal update failed")
+                .status(HttpStatus.CONFLICT)
+                .errors(Collections.singletonList("Journal " + id + " was changed since version " + version))
+                .build();
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String attribute, Object value) {
+        if (value != null) {
+            changes.put(attribute, value);
+        }
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
 }
\ No newline at end of file
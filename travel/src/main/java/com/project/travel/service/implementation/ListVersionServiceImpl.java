@@ -0,0 +1,74 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.constants.CacheNames;
+import com.project.travel.service.ListVersionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters of the cached lists, fed by the cache evictions every
+ * write already makes (and by those other instances send over the bus).
+ * Each invalidated key takes the next value of one sequence; keys that are not
+ * tracked share a baseline, raised whenever tracked keys are dropped, so a
+ * list never gets back a tag it had before its last change. Tags carry an
+ * instance epoch because the counters start over on every instance.
+ */
+@Service
+public class ListVersionServiceImpl implements ListVersionService {
+
+    private static final Set<String> LISTS = Set.of(CacheNames.JOURNAL_ENTRIES, CacheNames.USER_JOURNALS);
+
+    private final String epoch = Long.toString(UUID.randomUUID().getMostSignificantBits() >>> 16, 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Versions> versions = new ConcurrentHashMap<>();
+
+    @Value("${travel.list-versions.max-tracked:100000}")
+    private int maxTracked;
+
+    @Override
+    public String tag(String cacheName, Object key) {
+        if (!LISTS.contains(cacheName)) {
+            throw new IllegalArgumentException("No list versions are kept for cache " + cacheName);
+        }
+        Versions list = versions.computeIfAbsent(cacheName, name -> new Versions());
+        return "W/\"" + epoch + "-" + list.get(key) + "\"";
+    }
+
+    @Override
+    public void invalidated(String cacheName, Object key) {
+        if (LISTS.contains(cacheName)) {
+            versions.computeIfAbsent(cacheName, name -> new Versions()).invalidate(key);
+        }
+    }
+
+    // Inner class for the versions of one cache; only writers lock
+    private class Versions {
+        private final Map<Object, Long> byKey = new ConcurrentHashMap<>();
+        private volatile long baseline;
+
+        long get(Object key) {
+            Long version = byKey.get(key);
+            return version != null ? version : baseline;
+        }
+
+        synchronized void invalidate(Object key) {
+            if (key == null) {
+                baseline = sequence.incrementAndGet();
+                byKey.clear();
+                return;
+            }
+            byKey.put(key, sequence.incrementAndGet());
+            if (byKey.size() > maxTracked) {
+                // Raised before the keys go, so a reader that misses a key sees a newer baseline
+                baseline = sequence.get();
+                byKey.clear();
+            }
+        }
+    }
+}
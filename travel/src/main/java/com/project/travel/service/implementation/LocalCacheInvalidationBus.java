@@ -0,0 +1,56 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.service.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * In-JVM bus: every application context running in this JVM counts as one
+ * instance. Enough for a single node, and lets tests start several contexts
+ * side by side to check that they invalidate each other.
+ */
+@Service
+@ConditionalOnProperty(name = "travel.cache.invalidation", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Set<LocalCacheInvalidationBus> INSTANCES = new CopyOnWriteArraySet<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void join() {
+        INSTANCES.add(this);
+    }
+
+    @PreDestroy
+    public void leave() {
+        INSTANCES.remove(this);
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        for (LocalCacheInvalidationBus instance : INSTANCES) {
+            if (instance != this) {
+                instance.deliver(cacheName, key);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(String cacheName, Object key) {
+        for (Listener listener : listeners) {
+            listener.onInvalidation(cacheName, key);
+        }
+    }
+}
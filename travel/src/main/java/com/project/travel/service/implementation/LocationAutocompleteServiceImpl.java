@@ -0,0 +1,152 @@
+package com.project.travel.service.implementation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.travel.dto.LocationSuggestionDTO;
+import com.project.travel.dto.LocationUsageView;
+import com.project.travel.model.Entry;
+import com.project.travel.repository.EntryRepository;
+import com.project.travel.service.LocationAutocompleteService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationAutocompleteServiceImpl implements LocationAutocompleteService {
+
+    private static final int SUGGESTIONS_PER_NODE = 10;
+    private static final int MIN_GEOCODER_QUERY_LENGTH = 3;
+    // Journal IDs per IN list
+    private static final int JOURNAL_CHUNK_SIZE = 500;
+
+    private final EntryRepository entryRepository;
+    private final GeocodingService geocodingService;
+    private final LocationTrie locationTrie = new LocationTrie(SUGGESTIONS_PER_NODE);
+
+    @Value("${travel.locations.geocoder-cache-size:10000}")
+    private long geocoderCacheSize;
+
+    @Value("${travel.locations.geocoder-cache-ttl:1h}")
+    private Duration geocoderCacheTtl;
+
+    @Value("${travel.locations.geocoder-backoff:30s}")
+    private Duration geocoderBackoff;
+
+    // Geocoder answers by query, misses included, so retyping a query never reaches Nominatim twice
+    private Cache<String, Optional<LocationSuggestionDTO>> geocoderResults;
+    // After a failed call the geocoder is skipped until this time (System.nanoTime)
+    private volatile long geocoderRetryAt = System.nanoTime();
+
+    @PostConstruct
+    public void init() {
+        geocoderResults = Caffeine.newBuilder()
+                .maximumSize(geocoderCacheSize)
+                .expireAfterWrite(geocoderCacheTtl)
+                .build();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadKnownLocations() {
+        for (LocationUsageView usage : entryRepository.findLocationUsages()) {
+            locationTrie.add(usage.getLocationName(), usage.getLatitude(), usage.getLongitude(), usage.getUses());
+        }
+    }
+
+    @Override
+    public List<LocationSuggestionDTO> suggest(String query, int limit) {
+        List<LocationSuggestionDTO> suggestions = locationTrie.suggest(query, limit);
+        if (!suggestions.isEmpty()) {
+            return suggestions;
+        }
+
+        try {
+            return geocode(query)
+                    .map(Collections::singletonList)
+                    .orElse(Collections.emptyList());
+        } catch (RestClientException e) {
+            // Suggestions are a convenience: without the geocoder the user keeps typing the name
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public Optional<LocationSuggestionDTO> resolve(String location) {
+        Optional<LocationSuggestionDTO> known = locationTrie.findExact(location)
+                .filter(suggestion -> suggestion.getLatitude() != null && suggestion.getLongitude() != null);
+        if (known.isPresent()) {
+            return known;
+        }
+
+        return geocode(location);
+    }
+
+    @Override
+    public void recordLocation(String name, String latitude, String longitude, boolean newUse) {
+        locationTrie.add(name, Entry.parseCoordinate(latitude), Entry.parseCoordinate(longitude), newUse ? 1 : 0);
+    }
+
+    @Override
+    public void recordJournalLocations(Collection<Long> journalIds) {
+        List<Long> ids = new ArrayList<>(journalIds);
+        for (int from = 0; from < ids.size(); from += JOURNAL_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + JOURNAL_CHUNK_SIZE, ids.size()));
+            for (LocationUsageView usage : entryRepository.findLocationUsagesByJournalIds(chunk)) {
+                locationTrie.add(usage.getLocationName(), usage.getLatitude(), usage.getLongitude(), usage.getUses());
+            }
+        }
+    }
+
+    // Only true misses reach Nominatim; the answer is kept for the next lookups
+    private Optional<LocationSuggestionDTO> geocode(String query) {
+        if (query == null || query.trim().length() < MIN_GEOCODER_QUERY_LENGTH) {
+            return Optional.empty();
+        }
+
+        String key = query.trim().toLowerCase(Locale.ROOT);
+        Optional<LocationSuggestionDTO> cached = geocoderResults.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (System.nanoTime() - geocoderRetryAt < 0) {
+            throw new RestClientException("Geocoder unavailable, skipped after a recent failure");
+        }
+
+        Optional<LocationSuggestionDTO> result;
+        try {
+            result = geocodingService.searchLocation(query.trim()).map(response -> {
+                Double latitude = Entry.parseCoordinate(response.getLat());
+                Double longitude = Entry.parseCoordinate(response.getLon());
+                locationTrie.add(response.getDisplay_name(), latitude, longitude, 0);
+                return LocationSuggestionDTO.builder()
+                        .name(response.getDisplay_name())
+                        .latitude(latitude)
+                        .longitude(longitude)
+                        .build();
+            }).filter(suggestion -> suggestion.getLatitude() != null && suggestion.getLongitude() != null);
+        } catch (RestClientException e) {
+            geocoderRetryAt = System.nanoTime() + geocoderBackoff.toNanos();
+            log.warn("Geocoder failed, skipping it for {}: {}", geocoderBackoff, e.getMessage());
+            throw e;
+        }
+        geocoderResults.put(key, result);
+        return result;
+    }
+}
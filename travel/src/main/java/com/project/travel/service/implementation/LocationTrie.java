@@ -0,0 +1,195 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.dto.LocationSuggestionDTO;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix tree over location names. Every node keeps the most used
+ * locations of its subtree, so a prefix lookup never walks the whole subtree,
+ * and lookups tolerate typos by carrying a Levenshtein row down the tree.
+ */
+public class LocationTrie {
+
+    private final int suggestionsPerNode;
+    private final Node root = new Node();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LocationTrie(int suggestionsPerNode) {
+        this.suggestionsPerNode = suggestionsPerNode;
+    }
+
+    /**
+     * Add a location or increase the weight of an existing one
+     * @param name Display name of the location
+     * @param latitude Latitude, may be null
+     * @param longitude Longitude, may be null
+     * @param weight How many times the location was used
+     */
+    public void add(String name, Double latitude, Double longitude, long weight) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                path.add(node);
+            }
+
+            if (node.location == null) {
+                node.location = new Location(name.trim());
+            }
+            Location location = node.location;
+            location.weight += weight;
+            if (latitude != null && longitude != null) {
+                location.latitude = latitude;
+                location.longitude = longitude;
+            }
+
+            for (Node pathNode : path) {
+                pathNode.offer(location, suggestionsPerNode);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get ranked suggestions whose name starts with the query, allowing
+     * one typo for queries of 4+ characters and two for 8+ characters
+     * @param query Text typed so far
+     * @param limit Maximum number of suggestions
+     * @return Suggestions ordered by edit distance, then by usage
+     */
+    public List<LocationSuggestionDTO> suggest(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int maxEdits = key.length() < 4 ? 0 : key.length() < 8 ? 1 : 2;
+
+        lock.readLock().lock();
+        try {
+            Map<Location, Integer> matches = new HashMap<>();
+            int[] firstRow = new int[key.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            for (Map.Entry<Character, Node> child : root.children.entrySet()) {
+                search(child.getValue(), child.getKey(), key, firstRow, maxEdits, matches);
+            }
+
+            return matches.entrySet().stream()
+                    .sorted(Comparator.<Map.Entry<Location, Integer>>comparingInt(Map.Entry::getValue)
+                            .thenComparing(match -> -match.getKey().weight))
+                    .limit(limit)
+                    .map(match -> match.getKey().toDTO())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find a location by its exact (normalized) name
+     * @param name Location name
+     * @return Optional containing the location if known
+     */
+    public Optional<LocationSuggestionDTO> findExact(String name) {
+        String key = normalize(name);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node != null && node.location != null
+                    ? Optional.of(node.location.toDTO())
+                    : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void search(Node node, char letter, String key, int[] previousRow, int maxEdits,
+                        Map<Location, Integer> matches) {
+        int columns = key.length() + 1;
+        int[] row = new int[columns];
+        row[0] = previousRow[0] + 1;
+        int rowMin = row[0];
+        for (int i = 1; i < columns; i++) {
+            int cost = key.charAt(i - 1) == letter ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + cost);
+            rowMin = Math.min(rowMin, row[i]);
+        }
+
+        // The query is within reach of this prefix: its best locations are matches
+        int distance = row[columns - 1];
+        if (distance <= maxEdits) {
+            for (Location location : node.top) {
+                matches.merge(location, distance, Math::min);
+            }
+        }
+
+        if (rowMin <= maxEdits) {
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                search(child.getValue(), child.getKey(), key, row, maxEdits, matches);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        final List<Location> top = new ArrayList<>(2);
+        Location location;
+
+        void offer(Location candidate, int capacity) {
+            if (!top.contains(candidate)) {
+                top.add(candidate);
+            }
+            top.sort(Comparator.comparingLong((Location l) -> l.weight).reversed());
+            if (top.size() > capacity) {
+                top.remove(top.size() - 1);
+            }
+        }
+    }
+
+    private static class Location {
+        final String name;
+        Double latitude;
+        Double longitude;
+        long weight;
+
+        Location(String name) {
+            this.name = name;
+        }
+
+        LocationSuggestionDTO toDTO() {
+            return LocationSuggestionDTO.builder()
+                    .name(name)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.dto.EntrySearchView;
+import com.project.travel.dto.SearchPageDTO;
+import com.project.travel.dto.SearchResultDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Journal;
+import com.project.travel.repository.EntryRepository;
+import com.project.travel.repository.JournalRepository;
+import com.project.travel.service.SearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lucene index of entries and journals. Changes are applied once the writing
+ * transaction commits and searches see them through a near-real-time reader;
+ * the Lucene commit that makes them durable runs in the background every
+ * travel.search.commit-interval, so a crash loses at most that interval
+ * (POST /actuator/searchindex rebuilds the index from the database).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LuceneSearchServiceImpl implements SearchService {
+
+    private static final String TYPE_ENTRY = "entry";
+    private static final String TYPE_JOURNAL = "journal";
+    private static final String[] SEARCH_FIELDS = {"title", "location", "content", "description"};
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "title", 3f,
+            "location", 2f,
+            "content", 1f,
+            "description", 1f
+    );
+    private static final int MAX_PAGE_SIZE = 100;
+    // Deepest result a page may reach; every hit up to it is collected and sorted
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final EntryRepository entryRepository;
+    private final JournalRepository journalRepository;
+
+    // Writers share the read lock; a rebuild takes the write lock, so no update lands between its deleteAll and reload
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
+    @Value("${travel.search.index-dir:./search-index}")
+    private String indexDir;
+
+    @Value("${travel.search.commit-interval:5s}")
+    private Duration commitInterval;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService committer;
+
+    @PostConstruct
+    public void init() throws IOException {
+        // Lowercase and fold diacritics so "brasov" also matches "Brașov"
+        analyzer = CustomAnalyzer.builder()
+                .withTokenizer("standard")
+                .addTokenFilter("lowercase")
+                .addTokenFilter("asciiFolding")
+                .build();
+
+        // A blank index-dir keeps the index in memory (embedded profile), rebuilt at startup
+        directory = indexDir == null || indexDir.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Paths.get(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = commitInterval.toMillis();
+        committer.scheduleWithFixedDelay(this::commit, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexIfEmpty() throws ApiExceptionResponse {
+        if (indexWriter.getDocStats().numDocs == 0) {
+            rebuildIndex();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        committer.shutdown();
+        committer.awaitTermination(30, TimeUnit.SECONDS);
+        searcherManager.close();
+        // Commits whatever the last scheduled commit missed
+        indexWriter.close();
+        directory.close();
+    }
+
+    @Override
+    public SearchPageDTO search(String query, Long userId, int page, int size) throws ApiExceptionResponse {
+        if (query == null || query.trim().isEmpty()) {
+            throw badRequest("Search query cannot be empty");
+        }
+        if (userId == null) {
+            throw badRequest("User ID is required");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw badRequest("Page must be positive and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((page + 1L) * size > MAX_RESULT_WINDOW) {
+            throw badRequest("Only the first " + MAX_RESULT_WINDOW + " results can be paged through");
+        }
+
+        try {
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, FIELD_BOOSTS);
+            parser.setDefaultOperator(QueryParser.Operator.AND);
+            Query textQuery = parser.parse(QueryParser.escape(query.trim()));
+
+            Query scopedQuery = new BooleanQuery.Builder()
+                    .add(textQuery, BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term("userId", userId.toString())), BooleanClause.Occur.FILTER)
+                    .build();
+
+            refreshSearcher();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(scopedQuery, (page + 1) * size);
+                StoredFields storedFields = searcher.storedFields();
+
+                Map<String, Highlighter> highlighters = new HashMap<>();
+                for (String field : SEARCH_FIELDS) {
+                    // The encoder escapes the stored text, so only the <mark> tags reach the client as markup
+                    highlighters.put(field, new Highlighter(
+                            new SimpleHTMLFormatter("<mark>", "</mark>"),
+                            new SimpleHTMLEncoder(),
+                            new QueryScorer(textQuery, field)));
+                }
+
+                List<SearchResultDTO> results = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = page * size; i < scoreDocs.length; i++) {
+                    Document document = storedFields.document(scoreDocs[i].doc);
+                    results.add(toResult(document, scoreDocs[i].score, highlighters));
+                }
+
+                return SearchPageDTO.builder()
+                        .query(query)
+                        .page(page)
+                        .size(size)
+                        .totalHits(topDocs.totalHits.value)
+                        .results(results)
+                        .build();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (ParseException e) {
+            throw badRequest("Invalid search query: " + e.getMessage());
+        } catch (IOException | InvalidTokenOffsetsException e) {
+            throw ApiExceptionResponse.builder()
+                    .message("Search failed")
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @Override
+    public void indexEntry(Entry entry, Long userId) {
+        Document document = entryDocument(entry.getId(), entry.getJournalId(), userId,
+                entry.getTitle(), entry.getContent(), entry.getLocationName());
+        update("index entry " + entry.getId(),
+                () -> indexWriter.updateDocument(uidTerm(TYPE_ENTRY, entry.getId()), document));
+    }
+
+    @Override
+    public void indexEntries(List<Entry> entries, Long userId) {
+        Map<Term, Document> documents = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            documents.put(uidTerm(TYPE_ENTRY, entry.getId()), entryDocument(entry.getId(), entry.getJournalId(),
+                    userId, entry.getTitle(), entry.getContent(), entry.getLocationName()));
+        }
+        update("index " + entries.size() + " entries", () -> {
+            for (Map.Entry<Term, Document> document : documents.entrySet()) {
+                indexWriter.updateDocument(document.getKey(), document.getValue());
+            }
+        });
+    }
+
+    @Override
+    public void removeEntry(Long entryId) {
+        update("remove entry " + entryId + " from index",
+                () -> indexWriter.deleteDocuments(uidTerm(TYPE_ENTRY, entryId)));
+    }
+
+    @Override
+    public void indexJournal(Journal journal) {
+        Document document = journalDocument(journal);
+        update("index journal " + journal.getId(),
+                () -> indexWriter.updateDocument(uidTerm(TYPE_JOURNAL, journal.getId()), document));
+    }
+
+    @Override
+    public long indexJournals(Collection<Long> journalIds) {
+        long count = 0;
+        List<Long> ids = new ArrayList<>(journalIds);
+        for (int from = 0; from < ids.size(); from += REBUILD_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REBUILD_BATCH_SIZE, ids.size()));
+
+            Map<Long, Long> journalOwners = new HashMap<>();
+            Map<Term, Document> journalDocuments = new LinkedHashMap<>();
+            for (Journal journal : journalRepository.findAllById(chunk)) {
+                journalOwners.put(journal.getId(), journal.getUserId());
+                journalDocuments.put(uidTerm(TYPE_JOURNAL, journal.getId()), journalDocument(journal));
+            }
+            apply("index " + journalDocuments.size() + " journals", () -> {
+                for (Map.Entry<Term, Document> document : journalDocuments.entrySet()) {
+                    indexWriter.updateDocument(document.getKey(), document.getValue());
+                }
+            });
+            count += journalDocuments.size();
+
+            // One batch of entries on the heap at a time, however large the journals are
+            Long lastId = 0L;
+            List<EntrySearchView> batch;
+            do {
+                batch = entryRepository.findSearchViewsByJournalIdsAfter(chunk, lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                List<EntrySearchView> entries = batch;
+                apply("index " + entries.size() + " entries", () -> {
+                    for (EntrySearchView entry : entries) {
+                        indexWriter.updateDocument(uidTerm(TYPE_ENTRY, entry.getId()), entryDocument(entry.getId(),
+                                entry.getJournalId(), journalOwners.get(entry.getJournalId()), entry.getTitle(),
+                                entry.getContent(), entry.getLocationName()));
+                    }
+                });
+                count += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        }
+        return count;
+    }
+
+    @Override
+    public void removeJournal(Long journalId) {
+        // The journal document and its entries all carry the journalId term
+        update("remove journal " + journalId + " from index",
+                () -> indexWriter.deleteDocuments(new Term("journalId", journalId.toString())));
+    }
+
+    @Override
+    public long rebuildIndex() throws ApiExceptionResponse {
+        // Updates arriving meanwhile wait for the rebuild, so none is lost by its deleteAll
+        indexLock.writeLock().lock();
+        try {
+            long count = 0;
+            indexWriter.deleteAll();
+
+            Map<Long, Long> journalOwners = new HashMap<>();
+            for (Journal journal : journalRepository.findAll()) {
+                journalOwners.put(journal.getId(), journal.getUserId());
+                indexWriter.addDocument(journalDocument(journal));
+                count++;
+            }
+
+            // Keyset pagination over a slim projection keeps memory flat for large tables
+            Long lastId = 0L;
+            List<EntrySearchView> batch;
+            do {
+                batch = entryRepository.findSearchViewsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (EntrySearchView entry : batch) {
+                    indexWriter.addDocument(entryDocument(entry.getId(), entry.getJournalId(),
+                            journalOwners.get(entry.getJournalId()), entry.getTitle(), entry.getContent(),
+                            entry.getLocationName()));
+                    lastId = entry.getId();
+                    count++;
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+            return count;
+        } catch (IOException e) {
+            throw ApiExceptionResponse.builder()
+                    .message("Failed to rebuild search index")
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change to the index once the surrounding transaction commits,
+     * so a rolled back write never reaches it; the next search refreshes the reader
+     */
+    private void update(String description, IndexUpdate update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(description, update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(description, update);
+            }
+        });
+    }
+
+    private void apply(String description, IndexUpdate update) {
+        indexLock.readLock().lock();
+        try {
+            update.apply();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to {}", description, e);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    // During a rebuild the searches keep the reader from before it instead of seeing a half-built index
+    private void refreshSearcher() throws IOException {
+        if (indexLock.readLock().tryLock()) {
+            try {
+                searcherManager.maybeRefresh();
+            } finally {
+                indexLock.readLock().unlock();
+            }
+        }
+    }
+
+    private void commit() {
+        indexLock.readLock().lock();
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to commit search index", e);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+    private Document entryDocument(Long id, Long journalId, Long userId, String title, String content, String location) {
+        Document document = new Document();
+        document.add(new StringField("uid", uid(TYPE_ENTRY, id), Field.Store.NO));
+        document.add(new StringField("type", TYPE_ENTRY, Field.Store.YES));
+        document.add(new StoredField("id", id));
+        addKeyword(document, "journalId", journalId);
+        addKeyword(document, "userId", userId);
+        addText(document, "title", title);
+        addText(document, "content", content);
+        addText(document, "location", location);
+        return document;
+    }
+
+    private Document journalDocument(Journal journal) {
+        Document document = new Document();
+        document.add(new StringField("uid", uid(TYPE_JOURNAL, journal.getId()), Field.Store.NO));
+        document.add(new StringField("type", TYPE_JOURNAL, Field.Store.YES));
+        document.add(new StoredField("id", journal.getId()));
+        addKeyword(document, "journalId", journal.getId());
+        addKeyword(document, "userId", journal.getUserId());
+        addText(document, "title", journal.getTitle());
+        addText(document, "description", journal.getDescription());
+        return document;
+    }
+
+    private void addKeyword(Document document, String field, Long value) {
+        if (value != null) {
+            document.add(new StringField(field, value.toString(), Field.Store.YES));
+        }
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            document.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    private SearchResultDTO toResult(Document document, float score, Map<String, Highlighter> highlighters)
+            throws IOException, InvalidTokenOffsetsException {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        for (String field : SEARCH_FIELDS) {
+            String text = document.get(field);
+            if (text != null) {
+                String fragment = highlighters.get(field).getBestFragment(analyzer, field, text);
+                if (fragment != null) {
+                    highlights.put(field, fragment);
+                }
+            }
+        }
+
+        String journalId = document.get("journalId");
+        return SearchResultDTO.builder()
+                .type(document.get("type"))
+                .id(document.getField("id").numericValue().longValue())
+                .journalId(journalId != null ? Long.valueOf(journalId) : null)
+                .title(document.get("title"))
+                .score(score)
+                .highlights(highlights)
+                .build();
+    }
+
+    private Term uidTerm(String type, Long id) {
+        return new Term("uid", uid(type, id));
+    }
+
+    private String uid(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void apply() throws IOException;
+    }
+
+    private ApiExceptionResponse badRequest(String error) {
+        return ApiExceptionResponse.builder()
+                .message("Invalid search request")
+                .status(HttpStatus.BAD_REQUEST)
+                .errors(Collections.singletonList(error))
+                .build();
+    }
+}
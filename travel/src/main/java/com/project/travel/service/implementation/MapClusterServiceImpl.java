@@ -0,0 +1,267 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.constants.CacheNames;
+import com.project.travel.dto.EntryCoordinatesView;
+import com.project.travel.dto.MapClusterDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.repository.EntryRepository;
+import com.project.travel.service.CacheInvalidationBus;
+import com.project.travel.service.MapClusterService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+public class MapClusterServiceImpl implements MapClusterService {
+
+    private static final int MAX_ZOOM = 20;
+    private static final int CELLS_PER_TILE = 4;
+    private static final int MAX_TILES = 64;
+    private static final int SAMPLE_SIZE = 5;
+    private static final double MAX_LATITUDE = 85.05112878;
+    private static final long ALL_USERS = 0L;
+
+    private final EntryRepository entryRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // Bumped once every entry write commits, so tiles computed before the write are never read again
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private Map<TileKey, List<MapClusterDTO>> tileCache;
+
+    @Value("${travel.map.tile-cache-size:10000}")
+    private int tileCacheSize;
+
+    @PostConstruct
+    public void init() {
+        tileCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, List<MapClusterDTO>> eldest) {
+                return size() > tileCacheSize;
+            }
+        });
+
+        cacheInvalidationBus.subscribe((cacheName, key) -> {
+            if (CacheNames.MAP_TILES.equals(cacheName)) {
+                invalidateLocalTiles((Long) key);
+            }
+        });
+    }
+
+    @Override
+    public List<MapClusterDTO> getClusters(double minLat, double minLng, double maxLat, double maxLng,
+                                           int zoom, Long userId) throws ApiExceptionResponse {
+        if (minLat > maxLat || minLng > maxLng) {
+            throw ApiExceptionResponse.builder()
+                    .message("Invalid bounding box")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .errors(Collections.singletonList("Minimum coordinates must not exceed maximum coordinates"))
+                    .build();
+        }
+
+        double south = clamp(minLat, -MAX_LATITUDE, MAX_LATITUDE);
+        double north = clamp(maxLat, -MAX_LATITUDE, MAX_LATITUDE);
+        double west = clamp(minLng, -180.0, 180.0);
+        double east = clamp(maxLng, -180.0, 180.0);
+
+        // Coarsen the tile grid until the viewport fits, so the payload stays bounded
+        int tileZoom = (int) clamp(zoom, 0, MAX_ZOOM);
+        int minX, maxX, minY, maxY;
+        while (true) {
+            minX = tileX(west, tileZoom);
+            maxX = tileX(east, tileZoom);
+            minY = tileY(north, tileZoom);
+            maxY = tileY(south, tileZoom);
+            long tiles = (long) (maxX - minX + 1) * (maxY - minY + 1);
+            if (tiles <= MAX_TILES || tileZoom == 0) {
+                break;
+            }
+            tileZoom--;
+        }
+
+        long scope = userId != null ? userId : ALL_USERS;
+        long generation = generation(scope).get();
+
+        List<MapClusterDTO> clusters = new ArrayList<>();
+        Set<TileKey> missing = new LinkedHashSet<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                TileKey key = new TileKey(scope, generation, tileZoom, x, y);
+                List<MapClusterDTO> cached = tileCache.get(key);
+                if (cached != null) {
+                    clusters.addAll(cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            clusters.addAll(loadTiles(missing, tileZoom, userId));
+        }
+
+        return clusters;
+    }
+
+    @Override
+    public void invalidateTiles(Long userId) {
+        // Bumping before the commit would let a concurrent read cache the old rows under the new generation
+        afterCommit(() -> {
+            invalidateLocalTiles(userId);
+            cacheInvalidationBus.publish(CacheNames.MAP_TILES, userId);
+        });
+    }
+
+    private void invalidateLocalTiles(Long userId) {
+        if (userId == null) {
+            // Loads still running put their tiles under the old generations, which are never read again
+            generations.values().forEach(AtomicLong::incrementAndGet);
+            tileCache.clear();
+            return;
+        }
+        generation(userId).incrementAndGet();
+        generation(ALL_USERS).incrementAndGet();
+    }
+
+    /**
+     * Loads every missing tile with a single query over their combined bounds
+     * and caches the clusters of each tile, including empty ones
+     */
+    private List<MapClusterDTO> loadTiles(Set<TileKey> missing, int zoom, Long userId) {
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (TileKey key : missing) {
+            minX = Math.min(minX, key.x());
+            maxX = Math.max(maxX, key.x());
+            minY = Math.min(minY, key.y());
+            maxY = Math.max(maxY, key.y());
+        }
+
+        double north = tileLatitude(minY, zoom);
+        double south = tileLatitude(maxY + 1, zoom);
+        double west = tileLongitude(minX, zoom);
+        double east = tileLongitude(maxX + 1, zoom);
+
+        List<EntryCoordinatesView> coordinates = userId != null
+                ? entryRepository.findCoordinatesInBoundsForUser(userId, south, north, west, east)
+                : entryRepository.findCoordinatesInBounds(south, north, west, east);
+
+        TileKey sample = missing.iterator().next();
+        Map<TileKey, Map<Integer, ClusterAccumulator>> cellsByTile = new HashMap<>();
+        double n = 1 << zoom;
+
+        for (EntryCoordinatesView entry : coordinates) {
+            double lat = entry.getLatitude();
+            double lng = entry.getLongitude();
+            double fx = (lng + 180.0) / 360.0 * n;
+            double fy = mercatorY(lat) * n;
+            int x = (int) Math.min(n - 1, Math.floor(fx));
+            int y = (int) Math.min(n - 1, Math.floor(fy));
+
+            TileKey key = new TileKey(sample.scope(), sample.generation(), zoom, x, y);
+            if (!missing.contains(key)) {
+                continue;
+            }
+
+            int cellX = Math.min(CELLS_PER_TILE - 1, (int) ((fx - x) * CELLS_PER_TILE));
+            int cellY = Math.min(CELLS_PER_TILE - 1, (int) ((fy - y) * CELLS_PER_TILE));
+            cellsByTile.computeIfAbsent(key, k -> new HashMap<>())
+                    .computeIfAbsent(cellY * CELLS_PER_TILE + cellX, c -> new ClusterAccumulator())
+                    .add(entry.getId(), lat, lng);
+        }
+
+        List<MapClusterDTO> clusters = new ArrayList<>();
+        for (TileKey key : missing) {
+            List<MapClusterDTO> tileClusters = cellsByTile.getOrDefault(key, Collections.emptyMap())
+                    .values().stream()
+                    .map(ClusterAccumulator::toDTO)
+                    .toList();
+            tileCache.put(key, tileClusters);
+            clusters.addAll(tileClusters);
+        }
+        return clusters;
+    }
+
+    private AtomicLong generation(long scope) {
+        return generations.computeIfAbsent(scope, s -> new AtomicLong());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int tileX(double lng, int zoom) {
+        int n = 1 << zoom;
+        return (int) Math.min(n - 1, Math.floor((lng + 180.0) / 360.0 * n));
+    }
+
+    private static int tileY(double lat, int zoom) {
+        int n = 1 << zoom;
+        return (int) Math.min(n - 1, Math.floor(mercatorY(lat) * n));
+    }
+
+    // Web Mercator y in [0, 1], 0 being the north edge, as used by Leaflet tiles
+    private static double mercatorY(double lat) {
+        double latRad = Math.toRadians(lat);
+        return (1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2;
+    }
+
+    private static double tileLongitude(int x, int zoom) {
+        return x / (double) (1 << zoom) * 360.0 - 180.0;
+    }
+
+    private static double tileLatitude(int y, int zoom) {
+        double k = Math.PI - 2 * Math.PI * y / (1 << zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(k)));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private record TileKey(long scope, long generation, int zoom, int x, int y) {
+    }
+
+    // Inner class for aggregating the entries of one grid cell
+    private static class ClusterAccumulator {
+        int count = 0;
+        double latitudeSum = 0;
+        double longitudeSum = 0;
+        List<Long> sampleEntryIds = new ArrayList<>(SAMPLE_SIZE);
+
+        void add(Long entryId, double lat, double lng) {
+            count++;
+            latitudeSum += lat;
+            longitudeSum += lng;
+            if (sampleEntryIds.size() < SAMPLE_SIZE) {
+                sampleEntryIds.add(entryId);
+            }
+        }
+
+        MapClusterDTO toDTO() {
+            return MapClusterDTO.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .sampleEntryIds(sampleEntryIds)
+                    .build();
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.project.travel.constants.MediaType;
 import com.project.travel.model.Media;
 import com.project.travel.repository.MediaRepository;
 import com.project.travel.service.MediaService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -17,7 +19,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
+@Timed("travel.service")
 @RequiredArgsConstructor
 public class MediaServiceImpl implements MediaService {
 
@@ -39,10 +43,10 @@ public class MediaServiceImpl implements MediaService {
         File directory = new File(mediaUploadDir);
         if (!directory.exists()) {
             boolean created = directory.mkdirs();
-            System.out.println("Media upload directory created: " + created + " at " + directory.getAbsolutePath());
+            log.info("Media upload directory created: {} at {}", created, directory.getAbsolutePath());
         }
 
-        System.out.println("Media upload directory: " + directory.getAbsolutePath());
+        log.info("Media upload directory: {}", directory.getAbsolutePath());
     }
 
 
@@ -82,7 +86,7 @@ public class MediaServiceImpl implements MediaService {
 
             // Create the file
             File destinationFile = new File(directory, filename);
-            System.out.println("Saving file to: " + destinationFile.getAbsolutePath());
+            log.debug("Saving file to: {}", destinationFile.getAbsolutePath());
 
             // Save the file using FileOutputStream instead of transferTo
             try (InputStream inputStream = file.getInputStream();
@@ -98,18 +102,21 @@ public class MediaServiceImpl implements MediaService {
             // Return a web-accessible path
             return "/uploads/media/" + filename;
         } catch (IOException e) {
-            System.err.println("Error saving media file: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error saving media file", e);
             throw new RuntimeException("Failed to save file", e);
         }
     }
 
     @Override
-    public void deleteMediaFile(String url) {
-        File file = new File(url);
-        if (file.exists()) {
-            file.delete();
+    public boolean deleteMediaFile(String url) {
+        if (url == null) {
+            return false;
         }
+        // Stored URLs are web paths under the working directory, see saveMediaFile
+        File file = url.startsWith("/uploads/")
+                ? new File(System.getProperty("user.dir"), url.substring(1))
+                : new File(url);
+        return file.exists() && file.delete();
     }
 
     @Override
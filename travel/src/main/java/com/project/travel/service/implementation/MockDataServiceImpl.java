@@ -1,121 +1,218 @@
-/*
 package com.project.travel.service.implementation;
+
+import com.project.travel.constants.CacheNames;
 import com.project.travel.constants.MediaType;
-import com.project.travel.model.*;
-import com.project.travel.repository.EntryRepository;
+import com.project.travel.dto.MockDataReportDTO;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Journal;
+import com.project.travel.model.Media;
 import com.project.travel.repository.JournalRepository;
-import com.project.travel.repository.MediaRepository;
-import com.project.travel.repository.UserRepository;
+import com.project.travel.service.LocationAutocompleteService;
+import com.project.travel.service.MapClusterService;
 import com.project.travel.service.MockDataService;
-import jakarta.annotation.PostConstruct;
+import com.project.travel.service.SearchService;
+import com.project.user.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import org.springframework.stereotype.Component;
-
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 
-@Component
+/**
+ * Generates synthetic users, journals, entries and media for development and
+ * load tests. Each user is written in its own transaction through the
+ * BatchInserter, so millions of rows go out as JDBC batches with bounded
+ * memory, and are read back into the search and location indexes in chunks
+ * once the transaction commits, like an XML import.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class MockDataServiceImpl implements MockDataService {
-    private final Faker faker = new Faker();
-    private final Random random = new Random();
 
-    private final UserRepository userRepository;
+    // Every generated date lies within the year before this one, so runs are reproducible
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String MOCK_PASSWORD = "password";
+
+    private final BatchInserter batchInserter;
     private final JournalRepository journalRepository;
-    private final EntryRepository entryRepository;
-    private final MediaRepository mediaRepository;
-
-
-    public MockDataServiceImpl(UserRepository userRepository,
-                               JournalRepository journalRepository,
-                               EntryRepository entryRepository,
-                               MediaRepository mediaRepository) {
-        this.userRepository = userRepository;
-        this.journalRepository = journalRepository;
-        this.entryRepository = entryRepository;
-        this.mediaRepository = mediaRepository;
-    }
+    private final SearchService searchService;
+    private final LocationAutocompleteService locationAutocompleteService;
+    private final MapClusterService mapClusterService;
+    private final PasswordEncoder passwordEncoder;
+    private final CacheManager cacheManager;
+
+    @Value("${travel.mock-data.seed-on-startup:false}")
+    private boolean seedOnStartup;
+
+    @Value("${travel.mock-data.seed:42}")
+    private long seed;
+
+    @Value("${travel.mock-data.users:3}")
+    private int users;
 
-    @PostConstruct
+    @Value("${travel.mock-data.journals-per-user:3}")
+    private int journalsPerUser;
+
+    @Value("${travel.mock-data.entries-per-journal:3}")
+    private int entriesPerJournal;
+
+    @Value("${travel.mock-data.media-per-entry:2}")
+    private int mediaPerEntry;
+
+    // Runs after the search and location indexes are warmed, so the new data is not indexed twice
+    @Order
+    @EventListener(ApplicationReadyEvent.class)
     public void init() {
+        if (!seedOnStartup) {
+            return;
+        }
         // Check if data already exists to prevent duplicate creation
-        if (journalRepository.findAll().isEmpty()) {
-            generateMockData();
-            System.out.println("Mock data initialized:");
-            journalRepository.findAll().forEach(journal -> System.out.println(journal.getTitle()));
-        } else {
-            System.out.println("Mock data already exists, skipping initialization");
+        if (journalRepository.count() > 0) {
+            log.info("Mock data already exists, skipping initialization");
+            return;
         }
+        generateMockData();
     }
 
     @Override
-    public void generateMockData() {
-        List<User> users = new ArrayList<>();
-
-        for (int i = 1; i <= 3; i++) {
-            User user = new User();
-            user.setId((long) i);
-            user.setName(faker.name().fullName());
-            user.setUsername(faker.internet().userAgentAny());
-            user.setEmail(faker.internet().emailAddress());
-            user.setPassword(faker.internet().password());
-            user.setCreatedAt(faker.date().past(365, java.util.concurrent.TimeUnit.DAYS).toString());
-
-            List<Journal> journals = new ArrayList<>();
-
-            for (int j = 1; j <= 3; j++) {
-                Journal journal = new Journal();
-                journal.setId((long) (i * 10 + j));
-                journal.setTitle(faker.harryPotter().location());
-                journal.setCoverImageURL("https://source.unsplash.com/random/800x600/?nature");
-                journal.setDescription(faker.harryPotter().quote());
-                journal.setCreatedAt(faker.date().past(180, java.util.concurrent.TimeUnit.DAYS).toString());
-
-                List<Entry> entries = new ArrayList<>();
-
-                for (int k = 1; k <= 3; k++) {
-                    Entry entry = new Entry();
-                    entry.setId((long) (i * 100 + j * 10 + k));
-                    entry.setJournal(journal);
-                    entry.setTitle(faker.harryPotter().book());
-                    entry.setContent(faker.harryPotter().spell());
-                    entry.setLocationName(faker.harryPotter().location());
-                    entry.setLongitude(faker.address().longitude());
-                    entry.setLatitude(faker.address().latitude());
-                    entry.setCreatedAt(faker.date().past(30, java.util.concurrent.TimeUnit.DAYS).toString());
-
-                    List<Media> mediaList = new ArrayList<>();
-                    for (int m = 1; m <= random.nextInt(3) + 1; m++) {
-                        Media media = new Media();
-                        media.setId((long) (i * 1000 + j * 100 + k * 10 + m));
-                        media.setUrl(faker.internet().image());
-                        media.setType(MediaType.values()[random.nextInt(MediaType.values().length)]);
-                        media.setCaption(faker.lorem().sentence());
-                        media.setCreatedAt(faker.date().past(30, java.util.concurrent.TimeUnit.DAYS).toString());
-
-                        mediaList.add(media);
-                    }
+    public MockDataReportDTO generateMockData() {
+        return generateMockData(seed, users, journalsPerUser, entriesPerJournal, mediaPerEntry);
+    }
 
-                    entry.setMediaAttachments(mediaList);
-                    entries.add(entry);
-                    mediaRepository.saveAll(mediaList);
-                }
+    @Override
+    public MockDataReportDTO generateMockData(long seed, int users, int journalsPerUser, int entriesPerJournal, int mediaPerEntry) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(seed);
+        Faker faker = new Faker(Locale.ENGLISH, random);
+        // One hash for all users: BCrypt is far slower than the inserts
+        String passwordHash = passwordEncoder.encode(MOCK_PASSWORD);
+
+        GenerationState state = new GenerationState();
+        for (int i = 0; i < users; i++) {
+            User user = buildUser(faker, random, seed, i, passwordHash);
+            try {
+                batchInserter.execute(batch -> {
+                    batch.persist(user);
+                    for (int j = 0; j < journalsPerUser; j++) {
+                        generateJournal(faker, random, user.getId(), entriesPerJournal, mediaPerEntry, batch, state);
+                    }
+                    return null;
+                }, persisted -> log.debug("Mock data for {}: {} objects written", user.getUsername(), persisted));
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to generate mock data for user " + i, e);
+            }
 
-                journals.add(journal);
-                entryRepository.saveAll(entries);
+            // Committed: the indexes read the user's journals back in chunks
+            searchService.indexJournals(state.userJournalIds);
+            locationAutocompleteService.recordJournalLocations(state.userJournalIds);
+            state.userJournalIds.clear();
+            state.userIds.add(user.getId());
+            evict(CacheNames.USER_JOURNALS, user.getId());
+            mapClusterService.invalidateTiles(user.getId());
+            if ((i + 1) % 100 == 0) {
+                log.info("Mock data: {}/{} users, {} entries written", i + 1, users, state.entries);
             }
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("Mock data generated with seed {}: {} users, {} journals, {} entries, {} media in {} ms",
+                seed, users, state.journals, state.entries, state.media, duration);
+
+        return MockDataReportDTO.builder()
+                .seed(seed)
+                .userIds(state.userIds)
+                .journalsCreated(state.journals)
+                .entriesCreated(state.entries)
+                .mediaCreated(state.media)
+                .durationMillis(duration)
+                .build();
+    }
 
-            user.setJournals(journals);
-            users.add(user);
-            journalRepository.saveAll(journals);
+    private void generateJournal(Faker faker, Random random, Long userId, int entriesPerJournal, int mediaPerEntry,
+                                 BatchInserter.Batch batch, GenerationState state) {
+        Journal journal = Journal.builder()
+                .userId(userId)
+                .title(faker.harryPotter().location())
+                .description(faker.harryPotter().quote())
+                .coverImageURL("https://source.unsplash.com/random/800x600/?nature")
+                .createdAt(pastDate(random, 365))
+                .build();
+        batch.persist(journal);
+        state.userJournalIds.add(journal.getId());
+        state.journals++;
+
+        for (int k = 0; k < entriesPerJournal; k++) {
+            List<Media> mediaList = new ArrayList<>(mediaPerEntry);
+            for (int m = 0; m < mediaPerEntry; m++) {
+                Media media = Media.builder()
+                        .url(faker.internet().image())
+                        .type(random.nextInt(10) == 0 ? MediaType.VIDEO : MediaType.PHOTO)
+                        .caption(faker.lorem().sentence())
+                        .createdAt(pastDate(random, 30))
+                        .build();
+                batch.persist(media);
+                mediaList.add(media);
+            }
+            state.media += mediaPerEntry;
+
+            Entry entry = Entry.builder()
+                    .journalId(journal.getId())
+                    .title(faker.harryPotter().book())
+                    .content(faker.lorem().sentence(20))
+                    .locationName(faker.address().city())
+                    .latitude(String.format(Locale.ROOT, "%.6f", random.nextDouble() * 140 - 70))
+                    .longitude(String.format(Locale.ROOT, "%.6f", random.nextDouble() * 360 - 180))
+                    .createdAt(pastDate(random, 30))
+                    .mediaAttachments(mediaList)
+                    .build();
+            batch.persist(entry);
+            state.entries++;
         }
+    }
+
+    private User buildUser(Faker faker, Random random, long seed, int index, String passwordHash) {
+        // Seed and index keep usernames and emails unique across runs
+        String username = "mock_" + seed + "_" + index;
+        return User.builder()
+                .name(faker.name().fullName())
+                .username(username)
+                .email(username + "@traveljournal.test")
+                .password(passwordHash)
+                .createdAt(pastDate(random, 365))
+                .build();
+    }
 
-        userRepository.saveAll(users);
+    private String pastDate(Random random, int maxDays) {
+        return BASE_DATE.minusMinutes(random.nextInt(maxDays * 24 * 60)).toString();
     }
 
-    //@Override
-    public List<Journal> getJournals() {
-        return journalRepository.findAll();
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
     }
 
-}*/
+    // Inner class for the progress of one generation
+    private static class GenerationState {
+        final List<Long> userIds = new ArrayList<>();
+        // Journals of the user being generated, indexed once its transaction commits
+        final List<Long> userJournalIds = new ArrayList<>();
+        long journals = 0;
+        long entries = 0;
+        long media = 0;
+    }
+}
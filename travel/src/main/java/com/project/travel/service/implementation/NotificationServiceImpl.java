@@ -0,0 +1,114 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.constants.EntryEventType;
+import com.project.travel.dto.NotificationDTO;
+import com.project.travel.dto.UserSummaryDTO;
+import com.project.travel.event.EntryEvent;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Postcard;
+import com.project.travel.service.NotificationService;
+import com.project.user.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pushes notifications to /user/queue/notifications of the affected user.
+ * They go out after commit, so a client reloading on a notification sees the
+ * change, and only to users connected to this instance; the broker hands
+ * them to the outbound channel, so the request thread never waits on a socket.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationServiceImpl implements NotificationService {
+
+    private static final String DESTINATION = "/queue/notifications";
+    private static final String POSTCARD_RECEIVED = "POSTCARD_RECEIVED";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void entryChanged(EntryEvent event) {
+        if (event.getUserId() == null || !isConnected(event.getUserId())) {
+            return;
+        }
+        // Read now: the entities may be changed or detached by the time the transaction commits
+        List<NotificationDTO> notifications;
+        if (event.getEventType() == EntryEventType.ENTRIES_CREATED) {
+            // One per journal; the client reloads the journal's entry list
+            Set<Long> journalIds = new LinkedHashSet<>();
+            event.getEntries().forEach(entry -> journalIds.add(entry.getJournalId()));
+            notifications = journalIds.stream()
+                    .map(journalId -> NotificationDTO.builder()
+                            .type(event.getEventType().name())
+                            .journalId(journalId)
+                            .timestamp(event.getTimestamp())
+                            .build())
+                    .toList();
+        } else {
+            Entry entry = event.getEntry();
+            notifications = List.of(NotificationDTO.builder()
+                    .type(event.getEventType().name())
+                    .journalId(entry.getJournalId())
+                    .entryId(entry.getId())
+                    .timestamp(event.getTimestamp())
+                    .build());
+        }
+        afterCommit(() -> notifications.forEach(notification -> send(event.getUserId(), notification)));
+    }
+
+    @Override
+    public void postcardReceived(Postcard postcard) {
+        if (postcard.getReceiver() == null || !isConnected(postcard.getReceiver().getId())) {
+            return;
+        }
+        User sender = postcard.getSender();
+        NotificationDTO notification = NotificationDTO.builder()
+                .type(POSTCARD_RECEIVED)
+                .postcardId(postcard.getId())
+                .sender(sender != null ? new UserSummaryDTO(sender.getId(), sender.getName(), sender.getUsername()) : null)
+                .timestamp(postcard.getSentAt())
+                .build();
+        Long receiverId = postcard.getReceiver().getId();
+        afterCommit(() -> send(receiverId, notification));
+    }
+
+    private boolean isConnected(Long userId) {
+        return userId != null && userRegistry.getUser(String.valueOf(userId)) != null;
+    }
+
+    private void send(Long userId, NotificationDTO notification) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, notification);
+            meterRegistry.counter("travel.notifications.sent", "type", notification.getType()).increment();
+        } catch (RuntimeException e) {
+            // A lost notification only delays the client until its next reload
+            log.warn("Could not notify user {} of {}", userId, notification.getType(), e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
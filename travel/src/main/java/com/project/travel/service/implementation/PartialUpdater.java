@@ -0,0 +1,62 @@
+package com.project.travel.service.implementation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Updates the given columns of one row with a single bulk UPDATE, without
+ * loading the entity first, and increments its version attribute:
+ * <pre>
+ * UPDATE journal SET title = ?, version = version + 1 WHERE id = ? AND version = ?
+ * </pre>
+ * The version condition is only added when the caller knows the version it
+ * edited. Bulk updates bypass the persistence context, so an instance of the
+ * row already loaded in the same transaction keeps its old state.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartialUpdater {
+
+    public static final String ID = "id";
+    public static final String VERSION = "version";
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param type Entity class, with "id" and "version" attributes
+     * @param id Id of the row
+     * @param expectedVersion Version the change was made against, null to skip the check
+     * @param changes New values by attribute name; must not be empty
+     * @return Number of rows updated: 0 if there is no such row or the version differs
+     */
+    @Transactional
+    public <T> int update(Class<T> type, Object id, Long expectedVersion, Map<String, ?> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = builder.createCriteriaUpdate(type);
+        Root<T> root = update.from(type);
+
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+        Path<Long> version = root.get(VERSION);
+        update.set(version, builder.sum(version, 1L));
+
+        Predicate condition = builder.equal(root.get(ID), id);
+        if (expectedVersion != null) {
+            condition = builder.and(condition, builder.equal(version, expectedVersion));
+        }
+        update.where(condition);
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,19 +1,37 @@
 package com.project.travel.service.implementation;
 
+import com.project.travel.dto.PostcardPageDTO;
+import com.project.travel.dto.PostcardPhotoView;
+import com.project.travel.dto.PostcardSummaryDTO;
+import com.project.travel.dto.PostcardSummaryView;
+import com.project.travel.dto.UserSummaryDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.model.Postcard;
 import com.project.travel.repository.PostcardRepository;
+import com.project.travel.service.NotificationService;
 import com.project.travel.service.PostcardService;
+import com.project.user.service.IdentityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostcardServiceImpl implements PostcardService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostcardRepository postcardRepository;
+    private final IdentityService identityService;
+    private final NotificationService notificationService;
 
     @Override
     public List<Postcard> getAllPostcards() {
@@ -27,12 +45,21 @@ public class PostcardServiceImpl implements PostcardService {
 
     @Override
     public Postcard addPostcard(Postcard postcard) {
-        return postcardRepository.save(postcard);
+        if (postcard.getSentAt() == null) {
+            postcard.setSentAt(LocalDateTime.now());
+        }
+        Postcard savedPostcard = postcardRepository.save(withUserReferences(postcard));
+        notificationService.postcardReceived(savedPostcard);
+        return savedPostcard;
     }
 
     @Override
     public Postcard updatePostcard(Postcard postcard) {
-        return postcardRepository.save(postcard);
+        // The send time is not editable and the inbox order depends on it
+        Postcard existing = postcardRepository.findById(postcard.getId())
+                .orElseThrow(() -> new NoSuchElementException("Postcard not found with ID: " + postcard.getId()));
+        postcard.setSentAt(existing.getSentAt());
+        return postcardRepository.save(withUserReferences(postcard));
     }
 
     @Override
@@ -42,7 +69,10 @@ public class PostcardServiceImpl implements PostcardService {
 
     @Override
     public Postcard sendPostcard(Postcard postcard) {
-        return postcardRepository.save(postcard);
+        postcard.setSentAt(LocalDateTime.now());
+        Postcard sentPostcard = postcardRepository.save(withUserReferences(postcard));
+        notificationService.postcardReceived(sentPostcard);
+        return sentPostcard;
     }
 
     @Override
@@ -54,4 +84,90 @@ public class PostcardServiceImpl implements PostcardService {
     public List<Postcard> getPostcardsReceivedByUser(Long receiverId) {
         return postcardRepository.findByReceiverId(receiverId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public PostcardPageDTO getInbox(Long receiverId, String cursor, int size) throws ApiExceptionResponse {
+        Pageable limit = limit(size);
+        Cursor after = Cursor.decode(cursor);
+        List<PostcardSummaryView> rows = after == null
+                ? postcardRepository.findInbox(receiverId, limit)
+                : postcardRepository.findInboxBefore(receiverId, after.sentAt, after.id, limit);
+        return page(rows, limit.getPageSize() - 1);
+    }
+
+    @Override
+    public PostcardPageDTO getOutbox(Long senderId, String cursor, int size) throws ApiExceptionResponse {
+        Pageable limit = limit(size);
+        Cursor after = Cursor.decode(cursor);
+        List<PostcardSummaryView> rows = after == null
+                ? postcardRepository.findOutbox(senderId, limit)
+                : postcardRepository.findOutboxBefore(senderId, after.sentAt, after.id, limit);
+        return page(rows, limit.getPageSize() - 1);
+    }
+
+    // Sender and receiver arrive as bare ids without a version, so the stored (cached) users take their place
+    private Postcard withUserReferences(Postcard postcard) {
+        postcard.setSender(identityService.resolve(postcard.getSender()));
+        postcard.setReceiver(identityService.resolve(postcard.getReceiver()));
+        return postcard;
+    }
+
+    // One row more than the page tells whether another page follows
+    private static Pageable limit(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE) + 1);
+    }
+
+    // The photo URLs of the whole page come with a single query
+    private PostcardPageDTO page(List<PostcardSummaryView> rows, int size) {
+        List<PostcardSummaryView> pageRows = rows.size() > size ? rows.subList(0, size) : rows;
+        Map<Long, List<String>> photoUrls = pageRows.isEmpty() ? Map.of()
+                : postcardRepository.findPhotoUrls(pageRows.stream().map(PostcardSummaryView::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(PostcardPhotoView::getPostcardId,
+                                Collectors.mapping(PostcardPhotoView::getUrl, Collectors.toList())));
+
+        List<PostcardSummaryDTO> postcards = pageRows.stream()
+                .map(row -> PostcardSummaryDTO.builder()
+                        .id(row.getId())
+                        .description(row.getDescription())
+                        .sentAt(row.getSentAt())
+                        .sender(new UserSummaryDTO(row.getSenderId(), row.getSenderName(), row.getSenderUsername()))
+                        .receiver(new UserSummaryDTO(row.getReceiverId(), row.getReceiverName(), row.getReceiverUsername()))
+                        .photoUrls(photoUrls.getOrDefault(row.getId(), List.of()))
+                        .build())
+                .toList();
+
+        PostcardSummaryView last = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+        return PostcardPageDTO.builder()
+                .postcards(postcards)
+                .nextCursor(rows.size() > size ? new Cursor(last.getSentAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    // Position after the last postcard of a page: its send time, with the id breaking ties
+    private record Cursor(LocalDateTime sentAt, Long id) {
+
+        String encode() {
+            String value = sentAt + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) throws ApiExceptionResponse {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = value.indexOf(',');
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw ApiExceptionResponse.builder()
+                        .message("Invalid cursor")
+                        .status(HttpStatus.BAD_REQUEST)
+                        .errors(Collections.singletonList("The cursor must be the nextCursor of a previous page"))
+                        .build();
+            }
+        }
+    }
+}
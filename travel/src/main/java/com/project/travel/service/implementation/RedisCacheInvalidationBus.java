@@ -0,0 +1,107 @@
+package com.project.travel.service.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.travel.service.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Bus over Redis pub/sub. Works against any server speaking the Redis
+ * protocol, and publishes after the local eviction so a message that gets
+ * lost only delays the other instances until the cache TTL.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "travel.cache.invalidation", havingValue = "redis")
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String KEY_LONG = "long";
+    private static final String KEY_STRING = "string";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Identifies this instance, so it ignores its own messages
+    private final String origin = UUID.randomUUID().toString();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private RedisMessageListenerContainer container;
+
+    @Value("${travel.cache.invalidation-channel:travel:cache-invalidation}")
+    private String channel;
+
+    @PostConstruct
+    public void init() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this::onMessage, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        container.destroy();
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        // Keys that cannot travel as text drop the whole cache on the other instances
+        String keyType = key instanceof Long || key instanceof Integer ? KEY_LONG
+                : key instanceof String ? KEY_STRING
+                : null;
+        InvalidationMessage message = new InvalidationMessage(origin, cacheName,
+                keyType != null ? key.toString() : null, keyType);
+
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to publish invalidation of {}", cacheName, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            InvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), InvalidationMessage.class);
+            if (origin.equals(invalidation.origin())) {
+                return;
+            }
+
+            Object key = invalidation.key() == null ? null
+                    : KEY_LONG.equals(invalidation.keyType()) ? Long.valueOf(invalidation.key())
+                    : invalidation.key();
+            for (Listener listener : listeners) {
+                listener.onInvalidation(invalidation.cacheName(), key);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to apply cache invalidation", e);
+        }
+    }
+
+    private record InvalidationMessage(String origin, String cacheName, String key, String keyType) {
+    }
+}
@@ -1,70 +1,57 @@
 package com.project.travel.service.implementation;
 
 import com.project.travel.dto.UserCreationDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
 import com.project.travel.mapper.UserMapper;
-import com.project.travel.model.User;
-import com.project.travel.repository.UserRepository;
 import com.project.travel.service.UserService;
+import com.project.user.exception.DuplicateUserException;
+import com.project.user.model.User;
+import com.project.user.model.UserPatch;
+import com.project.user.service.IdentityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 
+/**
+ * Users are stored by the shared identity service (user-core), which also
+ * caches them by id; this service adds the travel API's error responses.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final IdentityService identityService;
 
     @Override
     public List<User> getAllUsers() {
-        return userRepository.findAll();
+        return identityService.findAll();
     }
 
     @Override
     public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+        return identityService.findById(id);
     }
 
     @Override
     public Optional<User> getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return identityService.findByUsername(username);
     }
 
     @Override
     public Optional<User> getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
-    }
-
-    @Override
-    public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        return identityService.findByEmail(email);
     }
 
     @Override
-    public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
-    }
-
-    @Override
-    public User createUser(UserCreationDTO userDTO) {
-        // Check if username or email already exists
-        if (existsByUsername(userDTO.getUsername())) {
-            throw new IllegalArgumentException("Username is already taken");
-        }
-
-        if (existsByEmail(userDTO.getEmail())) {
-            throw new IllegalArgumentException("Email is already in use");
-        }
-
+    public User createUser(UserCreationDTO userDTO) throws ApiExceptionResponse {
         // Convert DTO to entity
         User user = UserMapper.toEntity(userDTO);
 
@@ -72,50 +59,62 @@ public class UserServiceImpl implements UserService {
         user.setCreatedAt(LocalDateTime.now().toString());
 
         // Encrypt password
-        String hashedPassword = passwordEncoder.encode(userDTO.getPassword());
-        user.setPassword(hashedPassword);
+        user.setPassword(identityService.hashPassword(userDTO.getPassword()));
 
-        // Initialize empty journals list
-        user.setJournals(new ArrayList<>());
-
-        // Save user
-        return userRepository.save(user);
+        // Save user; a taken username or email fails the insert
+        try {
+            return identityService.create(user);
+        } catch (DuplicateUserException e) {
+            throw conflict(e);
+        }
     }
 
     @Override
-    public User updateUser(User user) {
-        // Check if user exists
-        if (!userRepository.existsById(user.getId())) {
-            throw new NoSuchElementException("User not found with id: " + user.getId());
-        }
-
-        // Get existing user to preserve fields that shouldn't be updated
-        User existingUser = userRepository.findById(user.getId())
-                .orElseThrow(() -> new NoSuchElementException("User not found"));
-
-        // Update fields
-        existingUser.setName(user.getName());
-        existingUser.setEmail(user.getEmail());
-        existingUser.setUsername(user.getUsername());
+    public User updateUser(User user) throws ApiExceptionResponse {
+        patchUser(user.getId(), UserPatch.builder()
+                .name(user.getName())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .version(user.getVersion())
+                .build());
+        return identityService.findById(user.getId())
+                .orElseThrow(() -> new NoSuchElementException("User not found with id: " + user.getId()));
+    }
 
-        // Only update password if provided
-        if (user.getPassword() != null && !user.getPassword().isEmpty()) {
-            String hashedPassword = passwordEncoder.encode(user.getPassword());
-            existingUser.setPassword(hashedPassword);
+    @Override
+    public void patchUser(Long id, UserPatch patch) throws ApiExceptionResponse {
+        try {
+            identityService.patch(id, patch);
+        } catch (DuplicateUserException e) {
+            throw conflict(e);
+        } catch (OptimisticLockingFailureException e) {
+            throw ApiExceptionResponse.builder()
+                    .message("User update failed")
+                    .status(HttpStatus.CONFLICT)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw ApiExceptionResponse.builder()
+                    .message("User update failed")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
         }
-
-
-        // Save updated user
-        return userRepository.save(existingUser);
     }
 
     @Override
     public void deleteUser(Long id) {
-        // Check if user exists
-        if (!userRepository.existsById(id)) {
+        if (!identityService.delete(id)) {
             throw new NoSuchElementException("User not found with id: " + id);
         }
+    }
 
-        userRepository.deleteById(id);
+    private ApiExceptionResponse conflict(DuplicateUserException e) {
+        return ApiExceptionResponse.builder()
+                .message("User already exists")
+                .status(HttpStatus.CONFLICT)
+                .errors(Collections.singletonList(e.getMessage()))
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.project.travel.service.implementation;
 import com.project.travel.model.*;
 import com.project.travel.service.*;
+import com.project.user.model.User;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Document;
@@ -20,6 +22,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("travel.service")
 @RequiredArgsConstructor
 public class XMLExportServiceImpl implements XMLExportService {
 
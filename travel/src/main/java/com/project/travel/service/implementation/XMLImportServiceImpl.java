@@ -0,0 +1,278 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.constants.CacheNames;
+import com.project.travel.constants.MediaType;
+import com.project.travel.dto.ImportReportDTO;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.model.Entry;
+import com.project.travel.model.Journal;
+import com.project.travel.model.Media;
+import com.project.travel.service.LocationAutocompleteService;
+import com.project.travel.service.MapClusterService;
+import com.project.travel.service.SearchService;
+import com.project.travel.service.XMLImportService;
+import com.project.user.service.IdentityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class XMLImportServiceImpl implements XMLImportService {
+
+    private static final String COMPLETE_USER_DATA = "CompleteUserData";
+    private static final String JOURNAL_EXPORT = "JournalExport";
+
+    private final BatchInserter batchInserter;
+    private final IdentityService identityService;
+    private final SearchService searchService;
+    private final LocationAutocompleteService locationAutocompleteService;
+    private final MapClusterService mapClusterService;
+    private final CacheManager cacheManager;
+
+    @Override
+    public ImportReportDTO importUserData(Long userId, InputStream xml) throws ApiExceptionResponse {
+        if (identityService.findById(userId).isEmpty()) {
+            throw ApiExceptionResponse.builder()
+                    .message("Import failed")
+                    .status(HttpStatus.NOT_FOUND)
+                    .errors(Collections.singletonList("No user exists with id: " + userId))
+                    .build();
+        }
+
+        long start = System.currentTimeMillis();
+        ImportState state = new ImportState(userId);
+        try {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(xml);
+            try {
+                batchInserter.execute(batch -> {
+                    parse(reader, batch, state);
+                    return null;
+                }, persisted -> log.info("XML import for user {}: {} objects written", userId, persisted));
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            if (e instanceof ApiExceptionResponse) {
+                throw (ApiExceptionResponse) e;
+            }
+            throw ApiExceptionResponse.builder()
+                    .message("Import failed")
+                    .status(e instanceof XMLStreamException ? HttpStatus.BAD_REQUEST : HttpStatus.INTERNAL_SERVER_ERROR)
+                    .errors(Collections.singletonList(e.getMessage()))
+                    .build();
+        }
+
+        // Committed: the indexes read the new journals back in chunks, so a rolled back import never reaches them
+        searchService.indexJournals(state.journalIds);
+        locationAutocompleteService.recordJournalLocations(state.journalIds);
+        evict(CacheNames.USER_JOURNALS, userId);
+        mapClusterService.invalidateTiles(userId);
+
+        return ImportReportDTO.builder()
+                .format(state.format)
+                .userId(userId)
+                .journalsImported(state.journalIds.size())
+                .entriesImported(state.entries)
+                .mediaImported(state.media)
+                .durationMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    /**
+     * Walks the document once, keeping only the journal, entry and media
+     * being read. Journals are written as soon as their own fields are known,
+     * entries as soon as they end.
+     */
+    private void parse(XMLStreamReader reader, BatchInserter.Batch batch, ImportState state) throws Exception {
+        Journal journal = null;
+        Entry entry = null;
+        Media media = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (state.format == null) {
+                    if (!COMPLETE_USER_DATA.equals(name) && !JOURNAL_EXPORT.equals(name)) {
+                        throw ApiExceptionResponse.builder()
+                                .message("Import failed")
+                                .status(HttpStatus.BAD_REQUEST)
+                                .errors(Collections.singletonList("Unsupported document type: " + name))
+                                .build();
+                    }
+                    state.format = name;
+                    continue;
+                }
+
+                switch (name) {
+                    case "Journal", "JournalInformation" -> journal = Journal.builder().userId(state.userId).build();
+                    case "Entries" -> persistJournal(journal, batch, state);
+                    case "Entry" -> entry = Entry.builder()
+                            .journalId(journal != null ? journal.getId() : null)
+                            .mediaAttachments(new ArrayList<>())
+                            .build();
+                    case "Media" -> media = new Media();
+                    default -> {
+                        if (media != null) {
+                            readMediaField(reader, name, media);
+                        } else if (entry != null) {
+                            readEntryField(reader, name, entry);
+                        } else if (journal != null && journal.getId() == null) {
+                            readJournalField(reader, name, journal);
+                        }
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "Media" -> {
+                        if (entry == null) {
+                            throw invalidDocument("Media outside of an entry");
+                        }
+                        batch.persist(media);
+                        entry.getMediaAttachments().add(media);
+                        state.media++;
+                        media = null;
+                    }
+                    case "Entry" -> {
+                        persistEntry(entry, batch, state);
+                        entry = null;
+                    }
+                    case "Journal" -> {
+                        persistJournal(journal, batch, state);
+                        journal = null;
+                    }
+                    case "JournalInformation" -> persistJournal(journal, batch, state);
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    private void persistJournal(Journal journal, BatchInserter.Batch batch, ImportState state) throws ApiExceptionResponse {
+        if (journal == null || journal.getId() != null) {
+            return;
+        }
+        if (journal.getTitle() == null) {
+            throw invalidDocument("Journal without a title");
+        }
+        if (journal.getCreatedAt() == null) {
+            journal.setCreatedAt(LocalDateTime.now().toString());
+        }
+        batch.persist(journal);
+        state.journalIds.add(journal.getId());
+    }
+
+    private void persistEntry(Entry entry, BatchInserter.Batch batch, ImportState state) throws ApiExceptionResponse {
+        if (entry.getJournalId() == null) {
+            throw invalidDocument("Entry outside of a journal");
+        }
+        if (entry.getTitle() == null) {
+            throw invalidDocument("Entry without a title");
+        }
+        if (entry.getCreatedAt() == null) {
+            entry.setCreatedAt(LocalDateTime.now().toString());
+        }
+        batch.persist(entry);
+        state.entries++;
+    }
+
+    private void readJournalField(XMLStreamReader reader, String name, Journal journal) throws XMLStreamException {
+        switch (name) {
+            case "Title" -> journal.setTitle(readText(reader));
+            case "Description" -> journal.setDescription(readText(reader));
+            case "CreatedAt" -> journal.setCreatedAt(readText(reader));
+            case "CoverImageURL" -> journal.setCoverImageURL(readText(reader));
+            default -> {
+            }
+        }
+    }
+
+    private void readEntryField(XMLStreamReader reader, String name, Entry entry) throws XMLStreamException {
+        switch (name) {
+            case "Title" -> entry.setTitle(readText(reader));
+            case "Content" -> entry.setContent(readText(reader));
+            case "LocationName" -> entry.setLocationName(readText(reader));
+            case "Latitude" -> entry.setLatitude(readText(reader));
+            case "Longitude" -> entry.setLongitude(readText(reader));
+            case "CreatedAt" -> entry.setCreatedAt(readText(reader));
+            default -> {
+            }
+        }
+    }
+
+    private void readMediaField(XMLStreamReader reader, String name, Media media) throws Exception {
+        switch (name) {
+            case "URL" -> media.setUrl(readText(reader));
+            case "Caption" -> media.setCaption(readText(reader));
+            case "CreatedAt" -> media.setCreatedAt(readText(reader));
+            case "Type" -> {
+                String type = readText(reader);
+                try {
+                    media.setType(type != null ? MediaType.valueOf(type) : null);
+                } catch (IllegalArgumentException e) {
+                    throw invalidDocument("Unknown media type: " + type);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    // The export writes missing values as empty elements
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = reader.getElementText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // Uploaded documents must not resolve DTDs or external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private ApiExceptionResponse invalidDocument(String error) {
+        return ApiExceptionResponse.builder()
+                .message("Import failed")
+                .status(HttpStatus.BAD_REQUEST)
+                .errors(Collections.singletonList(error))
+                .build();
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    // Inner class for the progress of one import
+    private static class ImportState {
+        final Long userId;
+        final List<Long> journalIds = new ArrayList<>();
+        String format;
+        int entries = 0;
+        int media = 0;
+
+        ImportState(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- Pooled id generation for entry, journal, media, postcard and user.
+--
+-- Hibernate keeps one single-row table per sequence on MySQL and hands out
+-- ids in blocks of 50 (allocationSize on each entity). A block read as
+-- next_val = N covers ids N-49 .. N, so every sequence must start at least
+-- 50 above the largest existing id. Run once before deploying; running it
+-- again is harmless.
+
+CREATE TABLE IF NOT EXISTS entry_seq (next_val BIGINT);
+INSERT INTO entry_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM entry_seq);
+UPDATE entry_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM entry));
+
+CREATE TABLE IF NOT EXISTS journal_seq (next_val BIGINT);
+INSERT INTO journal_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM journal_seq);
+UPDATE journal_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM journal));
+
+CREATE TABLE IF NOT EXISTS media_seq (next_val BIGINT);
+INSERT INTO media_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM media_seq);
+UPDATE media_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM media));
+
+CREATE TABLE IF NOT EXISTS postcard_seq (next_val BIGINT);
+INSERT INTO postcard_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM postcard_seq);
+UPDATE postcard_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM postcard));
+
+-- Shared by the travel and authentication services
+CREATE TABLE IF NOT EXISTS user_seq (next_val BIGINT);
+INSERT INTO user_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM user_seq);
+UPDATE user_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM `user`));
@@ -0,0 +1,12 @@
+-- Unique username and email for the user table shared by the travel and
+-- authentication services.
+--
+-- Registration inserts directly and maps a violation of these constraints to
+-- "username taken" / "email in use", so the names must stay as in User
+-- (USERNAME_CONSTRAINT, EMAIL_CONSTRAINT). The indexes also serve the
+-- lookups by username and email. Duplicates already stored must be resolved
+-- before running it, otherwise the ALTER fails and changes nothing.
+
+ALTER TABLE `user`
+    ADD CONSTRAINT uk_user_username UNIQUE (username),
+    ADD CONSTRAINT uk_user_email UNIQUE (email);
@@ -0,0 +1,9 @@
+-- Version columns for optimistic locking of journals, entries and users.
+--
+-- Partial updates (PATCH) write only the changed columns with a single
+-- UPDATE ... SET version = version + 1 WHERE id = ? AND version = ?, so
+-- existing rows start at version 0.
+
+ALTER TABLE journal ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE entry ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE `user` ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Send time and inbox/outbox indexes for postcards.
+--
+-- Inbox and outbox pages are read newest first with a keyset cursor:
+-- WHERE receiver_id = ? AND (sent_at, id) < (cursor) ORDER BY sent_at DESC,
+-- id DESC LIMIT n. The composite indexes serve that as a range scan, so a
+-- page costs the same however many postcards a user has. Postcards stored
+-- before this change get the time of the migration; the id keeps their order.
+
+ALTER TABLE postcard ADD COLUMN sent_at DATETIME(6) NULL;
+UPDATE postcard SET sent_at = CURRENT_TIMESTAMP(6) WHERE sent_at IS NULL;
+ALTER TABLE postcard MODIFY sent_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_postcard_receiver_sent ON postcard (receiver_id, sent_at, id);
+CREATE INDEX idx_postcard_sender_sent ON postcard (sender_id, sent_at, id);
@@ -0,0 +1,20 @@
+-- Numeric coordinates for map queries.
+--
+-- Entries keep latitude and longitude as the text the client sent; the map
+-- filtered them with CAST(latitude AS DOUBLE) BETWEEN ..., which reads every
+-- row and fails on text that is not a number. The application now parses the
+-- text on every write into latitude_value and longitude_value (NULL when it is
+-- not a number), so the bounding box filter is a range scan on the index.
+-- Existing rows are parsed once here.
+
+ALTER TABLE entry
+    ADD COLUMN latitude_value DOUBLE NULL,
+    ADD COLUMN longitude_value DOUBLE NULL;
+
+UPDATE entry
+SET latitude_value = CAST(TRIM(latitude) AS DOUBLE),
+    longitude_value = CAST(TRIM(longitude) AS DOUBLE)
+WHERE TRIM(latitude) REGEXP '^[-+]?[0-9]+(\\.[0-9]*)?$'
+  AND TRIM(longitude) REGEXP '^[-+]?[0-9]+(\\.[0-9]*)?$';
+
+CREATE INDEX idx_entry_coordinates ON entry (latitude_value, longitude_value);
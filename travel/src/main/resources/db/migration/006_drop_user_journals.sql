@@ -0,0 +1,7 @@
+-- Drop the user_journals join table.
+--
+-- It backed the old User.journals collection; journals belong to a user
+-- through journal.user_id and nothing reads or writes the join table any
+-- more, so deleting a journal no longer has to clean it up first.
+
+DROP TABLE IF EXISTS user_journals;
@@ -0,0 +1,46 @@
+package com.project.travel.config;
+
+import com.project.travel.constants.CacheNames;
+import com.project.travel.service.CacheInvalidationBus;
+import com.project.travel.service.ListVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CacheConfigTests {
+
+    @Test
+    void evictionDuringALoadDropsTheLoadedList() throws Exception {
+        CacheManager cacheManager = new CacheConfig().cacheManager(mock(CacheInvalidationBus.class),
+                mock(ListVersionService.class), 100, Duration.ofMinutes(10));
+        Cache cache = cacheManager.getCache(CacheNames.USER_JOURNALS);
+
+        // A read that loaded the list before a write committed
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> staleRead = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return List.of("before the write");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The write's after-commit eviction arrives while that read is still loading
+        CompletableFuture<Void> eviction = CompletableFuture.runAsync(() -> cache.evict(1L));
+        Thread.sleep(100);
+        release.countDown();
+        staleRead.get(5, TimeUnit.SECONDS);
+        eviction.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+}
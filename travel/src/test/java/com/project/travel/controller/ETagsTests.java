@@ -0,0 +1,78 @@
+package com.project.travel.controller;
+
+import com.project.travel.exceptions.ApiExceptionResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ETagsTests {
+
+    @Test
+    void tagIsTheQuotedVersion() {
+        assertThat(ETags.of(7L)).isEqualTo("\"7\"");
+        assertThat(ETags.of(null)).isEqualTo("\"0\"");
+    }
+
+    @Test
+    void ifMatchReadsTheVersion() throws ApiExceptionResponse {
+        assertThat(ETags.ifMatch("\"7\"").version()).isEqualTo(7L);
+        assertThat(ETags.ifMatch(" \"12\" ").version()).isEqualTo(12L);
+        // The header wins over a version in the body
+        assertThat(ETags.ifMatch("\"7\"").expectedVersion(3L)).isEqualTo(7L);
+    }
+
+    @Test
+    void withoutTheHeaderTheBodyVersionApplies() throws ApiExceptionResponse {
+        assertThat(ETags.ifMatch(null)).isEqualTo(ETags.IfMatch.NONE);
+        assertThat(ETags.ifMatch(" ")).isEqualTo(ETags.IfMatch.NONE);
+        assertThat(ETags.IfMatch.NONE.expectedVersion(3L)).isEqualTo(3L);
+    }
+
+    @Test
+    void anyTagMatchesEveryVersionEvenWithOneInTheBody() throws ApiExceptionResponse {
+        ETags.IfMatch any = ETags.ifMatch(" * ");
+
+        assertThat(any.isAny()).isTrue();
+        assertThat(any.expectedVersion(3L)).isNull();
+    }
+
+    @Test
+    void anyTagOnAMissingResourceIsFailedPrecondition() {
+        ApiExceptionResponse notFound = ApiExceptionResponse.builder().status(HttpStatus.NOT_FOUND).build();
+        ApiExceptionResponse conflict = ApiExceptionResponse.builder().status(HttpStatus.CONFLICT).build();
+
+        assertThat(ETags.onConflict(notFound, ETags.IfMatch.ANY).getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(ETags.onConflict(notFound, ETags.IfMatch.NONE)).isSameAs(notFound);
+        assertThat(ETags.onConflict(conflict, ETags.IfMatch.ANY)).isSameAs(conflict);
+    }
+
+    @Test
+    void weakOrForeignTagsNeverMatch() {
+        for (String header : new String[]{"W/\"7\"", "\"abc\"", "7", "\"\""}) {
+            assertThatThrownBy(() -> ETags.ifMatch(header))
+                    .isInstanceOfSatisfying(ApiExceptionResponse.class,
+                            e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+        }
+    }
+
+    @Test
+    void severalTagsAreRejected() {
+        assertThatThrownBy(() -> ETags.ifMatch("\"1\", \"2\""))
+                .isInstanceOfSatisfying(ApiExceptionResponse.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void conflictOnConditionalRequestIsFailedPrecondition() {
+        ApiExceptionResponse conflict = ApiExceptionResponse.builder().status(HttpStatus.CONFLICT).build();
+        ApiExceptionResponse notFound = ApiExceptionResponse.builder().status(HttpStatus.NOT_FOUND).build();
+
+        ETags.IfMatch version = new ETags.IfMatch(true, 3L);
+
+        assertThat(ETags.onConflict(conflict, version).getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(ETags.onConflict(conflict, ETags.IfMatch.NONE)).isSameAs(conflict);
+        assertThat(ETags.onConflict(notFound, version)).isSameAs(notFound);
+    }
+}
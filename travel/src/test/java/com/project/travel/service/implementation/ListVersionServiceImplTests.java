@@ -0,0 +1,78 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.constants.CacheNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListVersionServiceImplTests {
+
+    private ListVersionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ListVersionServiceImpl();
+        ReflectionTestUtils.setField(service, "maxTracked", 2);
+    }
+
+    @Test
+    void tagIsWeakAndStableUntilInvalidated() {
+        String tag = service.tag(CacheNames.JOURNAL_ENTRIES, 1L);
+
+        assertThat(tag).startsWith("W/\"").endsWith("\"");
+        assertThat(service.tag(CacheNames.JOURNAL_ENTRIES, 1L)).isEqualTo(tag);
+
+        service.invalidated(CacheNames.JOURNAL_ENTRIES, 1L);
+        assertThat(service.tag(CacheNames.JOURNAL_ENTRIES, 1L)).isNotEqualTo(tag);
+    }
+
+    @Test
+    void invalidationOnlyChangesItsKeyAndCache() {
+        String otherKey = service.tag(CacheNames.JOURNAL_ENTRIES, 2L);
+        String otherCache = service.tag(CacheNames.USER_JOURNALS, 1L);
+
+        service.invalidated(CacheNames.JOURNAL_ENTRIES, 1L);
+
+        assertThat(service.tag(CacheNames.JOURNAL_ENTRIES, 2L)).isEqualTo(otherKey);
+        assertThat(service.tag(CacheNames.USER_JOURNALS, 1L)).isEqualTo(otherCache);
+    }
+
+    @Test
+    void wholeCacheInvalidationChangesEveryKey() {
+        String first = service.tag(CacheNames.USER_JOURNALS, 1L);
+        String second = service.tag(CacheNames.USER_JOURNALS, 2L);
+
+        service.invalidated(CacheNames.USER_JOURNALS, null);
+
+        assertThat(service.tag(CacheNames.USER_JOURNALS, 1L)).isNotEqualTo(first);
+        assertThat(service.tag(CacheNames.USER_JOURNALS, 2L)).isNotEqualTo(second);
+    }
+
+    @Test
+    void droppedKeysNeverGetAnEarlierTagBack() {
+        String previous = service.tag(CacheNames.JOURNAL_ENTRIES, 1L);
+        Set<String> seen = new HashSet<>(Set.of(previous));
+        for (long key = 1; key <= 5; key++) {
+            // Past max-tracked the keys are dropped and fall back to the raised baseline
+            service.invalidated(CacheNames.JOURNAL_ENTRIES, key);
+            String tag = service.tag(CacheNames.JOURNAL_ENTRIES, 1L);
+            if (!tag.equals(previous)) {
+                assertThat(seen.add(tag)).isTrue();
+            }
+            previous = tag;
+        }
+        assertThat(seen).hasSizeGreaterThan(2);
+    }
+
+    @Test
+    void untrackedCacheIsRejected() {
+        assertThatThrownBy(() -> service.tag(CacheNames.JOURNALS, 1L)).isInstanceOf(IllegalArgumentException.class);
+        service.invalidated(CacheNames.JOURNALS, 1L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.repository.EntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocationAutocompleteServiceImplTests {
+
+    private final GeocodingService geocodingService = mock(GeocodingService.class);
+    private final LocationAutocompleteServiceImpl service =
+            new LocationAutocompleteServiceImpl(mock(EntryRepository.class), geocodingService);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "geocoderCacheSize", 100L);
+        ReflectionTestUtils.setField(service, "geocoderCacheTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "geocoderBackoff", Duration.ofSeconds(30));
+        service.init();
+    }
+
+    @Test
+    void geocoderAnswerWithCoordinatesIsResolvedOnceAndCached() {
+        when(geocodingService.searchLocation("Lisbon")).thenReturn(Optional.of(response("Lisbon", "38.72", "-9.14")));
+
+        assertThat(service.resolve("Lisbon")).hasValueSatisfying(suggestion -> {
+            assertThat(suggestion.getLatitude()).isEqualTo(38.72);
+            assertThat(suggestion.getLongitude()).isEqualTo(-9.14);
+        });
+        assertThat(service.resolve("Lisbon")).isPresent();
+        verify(geocodingService, times(1)).searchLocation("Lisbon");
+    }
+
+    @Test
+    void geocoderAnswerWithoutCoordinatesIsAMiss() {
+        when(geocodingService.searchLocation("Atlantis")).thenReturn(Optional.of(response("Atlantis", "", "abc")));
+
+        assertThat(service.resolve("Atlantis")).isEmpty();
+        assertThat(service.resolve("Atlantis")).isEmpty();
+        verify(geocodingService, times(1)).searchLocation("Atlantis");
+    }
+
+    private static GeocodingService.NominatimResponse response(String name, String lat, String lon) {
+        GeocodingService.NominatimResponse response = new GeocodingService.NominatimResponse();
+        response.setDisplay_name(name);
+        response.setLat(lat);
+        response.setLon(lon);
+        return response;
+    }
+}
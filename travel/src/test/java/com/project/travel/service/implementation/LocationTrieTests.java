@@ -0,0 +1,74 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.dto.LocationSuggestionDTO;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationTrieTests {
+
+    @Test
+    void suggestsPrefixMatchesByUsage() {
+        LocationTrie trie = new LocationTrie(10);
+        trie.add("Paris", 48.85, 2.35, 3);
+        trie.add("Parma", 44.80, 10.33, 5);
+        trie.add("Berlin", 52.52, 13.40, 9);
+
+        assertThat(trie.suggest("par", 10)).extracting(LocationSuggestionDTO::getName)
+                .containsExactly("Parma", "Paris");
+    }
+
+    @Test
+    void foldsDiacriticsAndCase() {
+        LocationTrie trie = new LocationTrie(10);
+        trie.add("Brașov", 45.65, 25.61, 1);
+
+        assertThat(trie.suggest("BRASOV", 10)).extracting(LocationSuggestionDTO::getName).containsExactly("Brașov");
+        assertThat(trie.findExact("brasov")).map(LocationSuggestionDTO::getName).hasValue("Brașov");
+    }
+
+    @Test
+    void toleratesTyposOnlyForLongerQueries() {
+        LocationTrie trie = new LocationTrie(10);
+        trie.add("Barcelona", 41.39, 2.17, 1);
+
+        assertThat(trie.suggest("bra", 10)).isEmpty();
+        assertThat(trie.suggest("bracelnoa", 10)).isEmpty();
+        assertThat(trie.suggest("barx", 10)).extracting(LocationSuggestionDTO::getName).containsExactly("Barcelona");
+        assertThat(trie.suggest("barcelnoa", 10)).extracting(LocationSuggestionDTO::getName).containsExactly("Barcelona");
+    }
+
+    @Test
+    void ranksCloserMatchesFirst() {
+        LocationTrie trie = new LocationTrie(10);
+        trie.add("Rome", 41.90, 12.50, 1);
+        trie.add("Rame", 50.00, 5.00, 100);
+
+        assertThat(trie.suggest("rome", 10)).extracting(LocationSuggestionDTO::getName).containsExactly("Rome", "Rame");
+    }
+
+    @Test
+    void findExactIgnoresPrefixesAndFuzzyMatches() {
+        LocationTrie trie = new LocationTrie(10);
+        trie.add("Vienna", 48.21, 16.37, 1);
+
+        assertThat(trie.findExact("Vien")).isEmpty();
+        assertThat(trie.findExact("Viena")).isEmpty();
+        assertThat(trie.findExact("  vienna ")).isPresent();
+        assertThat(trie.findExact("")).isEmpty();
+    }
+
+    @Test
+    void addingAgainRaisesWeightAndKeepsKnownCoordinates() {
+        LocationTrie trie = new LocationTrie(1);
+        trie.add("Lyon", 45.76, 4.84, 1);
+        trie.add("Lille", 50.63, 3.06, 2);
+        trie.add("Lyon", null, null, 2);
+
+        // One suggestion per node: only the most used location of the subtree is kept
+        assertThat(trie.suggest("l", 10)).extracting(LocationSuggestionDTO::getName).containsExactly("Lyon");
+        LocationSuggestionDTO lyon = trie.findExact("lyon").orElseThrow();
+        assertThat(lyon.getLatitude()).isEqualTo(45.76);
+        assertThat(lyon.getLongitude()).isEqualTo(4.84);
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.travel.service.implementation;
+
+import com.project.travel.dto.PostcardPageDTO;
+import com.project.travel.dto.PostcardSummaryDTO;
+import com.project.travel.dto.PostcardSummaryView;
+import com.project.travel.exceptions.ApiExceptionResponse;
+import com.project.travel.repository.PostcardRepository;
+import com.project.travel.service.NotificationService;
+import com.project.user.service.IdentityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PostcardServiceImplTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private PostcardRepository postcardRepository;
+    private PostcardServiceImpl postcardService;
+
+    @BeforeEach
+    void setUp() {
+        postcardRepository = mock(PostcardRepository.class);
+        postcardService = new PostcardServiceImpl(postcardRepository, mock(IdentityService.class),
+                mock(NotificationService.class));
+    }
+
+    @Test
+    void fullPageHandsOutCursorOfItsLastRow() throws ApiExceptionResponse {
+        List<PostcardSummaryView> rows = List.of(row(30L, NOW), row(20L, NOW), row(10L, NOW.minusDays(1)));
+        when(postcardRepository.findInbox(1L, PageRequest.of(0, 3))).thenReturn(rows);
+
+        PostcardPageDTO page = postcardService.getInbox(1L, null, 2);
+
+        assertThat(page.getPostcards()).extracting(PostcardSummaryDTO::getId).containsExactly(30L, 20L);
+        assertThat(page.getNextCursor()).isNotNull();
+        // The photos of the page, and only of the page, come with one query
+        verify(postcardRepository).findPhotoUrls(List.of(30L, 20L));
+
+        postcardService.getInbox(1L, page.getNextCursor(), 2);
+        verify(postcardRepository).findInboxBefore(1L, NOW, 20L, PageRequest.of(0, 3));
+    }
+
+    @Test
+    void lastPageHasNoCursor() throws ApiExceptionResponse {
+        List<PostcardSummaryView> rows = List.of(row(30L, NOW));
+        when(postcardRepository.findOutbox(1L, PageRequest.of(0, 3))).thenReturn(rows);
+
+        PostcardPageDTO page = postcardService.getOutbox(1L, null, 2);
+
+        assertThat(page.getPostcards()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyPageSkipsPhotoQuery() throws ApiExceptionResponse {
+        PostcardPageDTO page = postcardService.getInbox(1L, null, 20);
+
+        assertThat(page.getPostcards()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(postcardRepository, never()).findPhotoUrls(any());
+    }
+
+    @Test
+    void pageSizeIsClamped() throws ApiExceptionResponse {
+        postcardService.getInbox(1L, null, 1000);
+        postcardService.getInbox(1L, null, 0);
+
+        verify(postcardRepository).findInbox(1L, PageRequest.of(0, 101));
+        verify(postcardRepository).findInbox(1L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        for (String cursor : new String[]{"###", "bm90LWEtY3Vyc29y", "MjAyNC0wNS0wMVQxMjowMA"}) {
+            assertThatThrownBy(() -> postcardService.getInbox(1L, cursor, 20))
+                    .isInstanceOfSatisfying(ApiExceptionResponse.class,
+                            e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+        verify(postcardRepository, never()).findInboxBefore(anyLong(), any(), anyLong(), any());
+    }
+
+    private static PostcardSummaryView row(Long id, LocalDateTime sentAt) {
+        PostcardSummaryView row = mock(PostcardSummaryView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getSentAt()).thenReturn(sentAt);
+        return row;
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.user;
+
+import com.project.user.cache.CaffeineUserCache;
+import com.project.user.cache.UserCache;
+import com.project.user.repository.UserRepository;
+import com.project.user.service.IdentityService;
+import com.project.user.service.impl.IdentityServiceImpl;
+import com.project.user.web.CorrelationIdFilter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Adds the shared User entity and repository to the application's JPA
+ * packages and provides the IdentityService. Web services also get the
+ * CorrelationIdFilter tagging their log lines with the request ID. A
+ * service may define its own UserCache or PasswordEncoder bean to replace
+ * the defaults.
+ */
+@AutoConfiguration(before = {HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@AutoConfigurationPackage
+public class UserCoreAutoConfiguration {
+
+    // Same cost in every service; the authentication service rehashes older hashes on login
+    @Bean
+    @ConditionalOnMissingBean
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.bcrypt-strength:12}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public UserCache userCache(@Value("${user.cache.max-size:10000}") long maxSize,
+                               @Value("${user.cache.ttl:5m}") Duration ttl) {
+        return new CaffeineUserCache(maxSize, ttl);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdentityService identityService(UserRepository userRepository, UserCache userCache,
+                                           PasswordEncoder passwordEncoder, EntityManager entityManager) {
+        return new IdentityServiceImpl(userRepository, userCache, passwordEncoder, entityManager);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class WebConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public CorrelationIdFilter correlationIdFilter() {
+            return new CorrelationIdFilter();
+        }
+    }
+}
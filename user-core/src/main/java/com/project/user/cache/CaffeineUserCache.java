@@ -0,0 +1,39 @@
+package com.project.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.user.model.User;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded local cache. Entries expire after the ttl, which also bounds how
+ * long a change made by another service instance can go unnoticed.
+ */
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<Long, User> cache;
+
+    public CaffeineUserCache(long maxSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<User> get(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    @Override
+    public void put(User user) {
+        cache.put(user.getId(), user);
+    }
+
+    @Override
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+}
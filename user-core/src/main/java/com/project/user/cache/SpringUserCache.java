@@ -0,0 +1,34 @@
+package com.project.user.cache;
+
+import com.project.user.model.User;
+import org.springframework.cache.Cache;
+
+import java.util.Optional;
+
+/**
+ * UserCache backed by a cache of the Spring cache abstraction, for a service
+ * whose cache manager already spreads evictions to its other instances.
+ */
+public class SpringUserCache implements UserCache {
+
+    private final Cache cache;
+
+    public SpringUserCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<User> get(Long id) {
+        return Optional.ofNullable(cache.get(id, User.class));
+    }
+
+    @Override
+    public void put(User user) {
+        cache.put(user.getId(), user);
+    }
+
+    @Override
+    public void evict(Long id) {
+        cache.evict(id);
+    }
+}
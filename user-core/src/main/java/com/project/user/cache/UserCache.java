@@ -0,0 +1,22 @@
+package com.project.user.cache;
+
+import com.project.user.model.User;
+
+import java.util.Optional;
+
+/**
+ * In-process cache of users by id, in front of the identity service lookups.
+ * A service can provide its own bean, e.g. one whose evictions reach its
+ * other instances; otherwise a local Caffeine cache is used.
+ */
+public interface UserCache {
+    /**
+     * @param id Id of the user
+     * @return The cached user, empty on a miss
+     */
+    Optional<User> get(Long id);
+
+    void put(User user);
+
+    void evict(Long id);
+}
@@ -0,0 +1,23 @@
+package com.project.user.exception;
+
+/**
+ * Thrown when an insert or update hits the unique constraint on the
+ * username or on the email.
+ */
+public class DuplicateUserException extends RuntimeException {
+
+    public enum Field {
+        USERNAME, EMAIL
+    }
+
+    private final Field field;
+
+    public DuplicateUserException(Field field, String message) {
+        super(message);
+        this.field = field;
+    }
+
+    public Field getField() {
+        return field;
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.user.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The user account, mapped once for the travel and authentication services.
+ * Journals reference their owner by userId; the user row holds no
+ * associations, so it can be cached and shared freely.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+// Registration relies on these constraints instead of checking first (see travel db/migration/002)
+@Table(name = "user", uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+})
+public class User {
+    public static final String USERNAME_CONSTRAINT = "uk_user_username";
+    public static final String EMAIL_CONSTRAINT = "uk_user_email";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
+    private Long id;
+
+    private String name;
+    private String username;
+    private String email;
+    private String password;
+    private String createdAt;
+
+    // Optimistic locking; partial updates increment it in the UPDATE itself
+    @Version
+    private Long version;
+}
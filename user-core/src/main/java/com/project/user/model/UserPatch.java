@@ -0,0 +1,22 @@
+package com.project.user.model;
+
+import lombok.*;
+
+/**
+ * Partial change to a user: null fields are left as they are. The password
+ * is the raw one and is only hashed when present.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class UserPatch {
+    private String name;
+    private String username;
+    private String email;
+    private String password;
+
+    // Version the change was made against; null skips the optimistic check
+    private Long version;
+}
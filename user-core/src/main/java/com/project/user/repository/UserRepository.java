@@ -1,6 +1,6 @@
-package com.project.travel.repository;
+package com.project.user.repository;
 
-import com.project.travel.model.User;
+import com.project.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
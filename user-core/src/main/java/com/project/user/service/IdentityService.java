@@ -0,0 +1,79 @@
+package com.project.user.service;
+
+import com.project.user.exception.DuplicateUserException;
+import com.project.user.model.User;
+import com.project.user.model.UserPatch;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The one place where users are read and written, shared by the travel and
+ * authentication services. Lookups by id go through the UserCache.
+ */
+public interface IdentityService {
+    /**
+     * Get a user by id, from the cache when possible
+     * @param id Id of the user
+     * @return Optional containing the user if found
+     */
+    Optional<User> findById(Long id);
+
+    /**
+     * Replace a user referenced by id in a request body with the stored user.
+     * Such references carry no version, so saving them as they are would be
+     * rejected by the optimistic lock of User
+     * @param reference User with at least an id, or null
+     * @return The stored user, or the reference itself if it has no id
+     * @throws java.util.NoSuchElementException If there is no user with that id
+     */
+    User resolve(User reference);
+
+    Optional<User> findByUsername(String username);
+
+    Optional<User> findByEmail(String email);
+
+    List<User> findAll();
+
+    /**
+     * Hash a password with the shared encoder and cost (password.hashing.bcrypt-strength)
+     * @param rawPassword Password as typed by the user
+     * @return The hash to store
+     */
+    String hashPassword(String rawPassword);
+
+    /**
+     * Insert a user in one statement; the password must already be hashed
+     * @param user User to insert
+     * @return The saved user
+     * @throws DuplicateUserException If the username or email is taken
+     */
+    User create(User user);
+
+    /**
+     * Save changes to an existing user and evict it from the cache
+     * @param user User to save
+     * @return The saved user
+     * @throws DuplicateUserException If the new username or email is taken
+     */
+    User update(User user);
+
+    /**
+     * Change the given fields of a user with a single UPDATE, without reading
+     * it first, and evict it from the cache
+     * @param id Id of the user
+     * @param patch Fields to change; a password is hashed only if present
+     * @throws java.util.NoSuchElementException If there is no such user
+     * @throws org.springframework.dao.OptimisticLockingFailureException If the user was changed since patch.version
+     * @throws DuplicateUserException If the new username or email is taken
+     * @throws IllegalArgumentException If the patch changes nothing
+     */
+    void patch(Long id, UserPatch patch);
+
+    /**
+     * Delete a user by id
+     * @param id Id of the user
+     * @return False if there was no such user
+     */
+    boolean delete(Long id);
+}
@@ -0,0 +1,188 @@
+package com.project.user.service.impl;
+
+import com.project.user.cache.UserCache;
+import com.project.user.exception.DuplicateUserException;
+import com.project.user.model.User;
+import com.project.user.model.UserPatch;
+import com.project.user.repository.UserRepository;
+import com.project.user.service.IdentityService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class IdentityServiceImpl implements IdentityService {
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<User> cached = userCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<User> user = userRepository.findById(id);
+        user.ifPresent(userCache::put);
+        return user;
+    }
+
+    @Override
+    public User resolve(User reference) {
+        if (reference == null || reference.getId() == null) {
+            return reference;
+        }
+        return findById(reference.getId())
+                .orElseThrow(() -> new NoSuchElementException("User not found with ID: " + reference.getId()));
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return userRepository.findByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return userRepository.findAll();
+    }
+
+    @Override
+    public String hashPassword(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public User create(User user) {
+        // No lookups first: the unique constraints reject a taken username or email in the insert itself
+        return saveAndFlush(user);
+    }
+
+    @Override
+    public User update(User user) {
+        try {
+            return saveAndFlush(user);
+        } finally {
+            userCache.evict(user.getId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void patch(Long id, UserPatch patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "name", patch.getName());
+        putIfPresent(changes, "username", patch.getUsername());
+        putIfPresent(changes, "email", patch.getEmail());
+        if (patch.getPassword() != null && !patch.getPassword().isEmpty()) {
+            changes.put("password", passwordEncoder.encode(patch.getPassword()));
+        }
+
+        int updated;
+        try {
+            updated = updateColumns(id, patch.getVersion(), changes);
+        } catch (PersistenceException e) {
+            throw duplicate(e);
+        } finally {
+            userCache.evict(id);
+        }
+        if (updated == 0) {
+            // Only a failed update pays for finding out why
+            if (!userRepository.existsById(id)) {
+                throw new NoSuchElementException("User not found with id: " + id);
+            }
+            throw new OptimisticLockingFailureException("User " + id + " was changed since version " + patch.getVersion());
+        }
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        if (!userRepository.existsById(id)) {
+            return false;
+        }
+        userRepository.deleteById(id);
+        userCache.evict(id);
+        return true;
+    }
+
+    private User saveAndFlush(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicate(e);
+        }
+    }
+
+    // UPDATE user SET ..., version = version + 1 WHERE id = ? [AND version = ?], without loading the user
+    private int updateColumns(Long id, Long expectedVersion, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = builder.createCriteriaUpdate(User.class);
+        Root<User> root = update.from(User.class);
+
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+        Path<Long> version = root.get("version");
+        update.set(version, builder.sum(version, 1L));
+        update.where(expectedVersion == null
+                ? builder.equal(root.get("id"), id)
+                : builder.and(builder.equal(root.get("id"), id), builder.equal(version, expectedVersion)));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String attribute, String value) {
+        if (value != null) {
+            changes.put(attribute, value);
+        }
+    }
+
+    // Maps a violated unique constraint to the field that is taken; other failures are rethrown as they are
+    private RuntimeException duplicate(RuntimeException e) {
+        String constraint = "";
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                constraint = violation.getConstraintName();
+                break;
+            }
+            if (cause.getMessage() != null) {
+                constraint = cause.getMessage();
+            }
+        }
+        constraint = constraint.toLowerCase(Locale.ROOT);
+
+        if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+            return new DuplicateUserException(DuplicateUserException.Field.USERNAME, "Username is already taken");
+        }
+        if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+            return new DuplicateUserException(DuplicateUserException.Field.EMAIL, "Email is already in use");
+        }
+        return e;
+    }
+}